@@ -0,0 +1,190 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.objectweb.asm.tree.AnnotationNode;
+
+/**
+ * A concurrent cache of annotation tables read from bytecode, keyed by {@link ClassLoader} and class name. Each class file is parsed
+ * at most once per {@link ClassLoader}, and the resulting table holds the annotations (of any retention spec) declared on the class
+ * and on each of its fields.
+ * <p>
+ * {@link ClassLoader}s are held weakly, so that the cache does not prevent the collection of plugin and project class realms in
+ * long-lived processes, such as Maven daemons. The tables themselves hold raw bytecode values only, and therefore do not reference
+ * any {@link Class} of the {@link ClassLoader} by which they are keyed.
+ */
+public final class AnnotationCache {
+  /**
+   * The annotations declared on a class and its fields, keyed by annotation type descriptor.
+   */
+  static final class Table {
+    private final String className;
+    private final Map<String,AnnotationNode> classAnnotations;
+    private final Map<String,Map<String,AnnotationNode>> fieldAnnotations;
+    private final Map<String,Map<String,AnnotationNode>> methodAnnotations;
+
+    Table(final String className, final Map<String,AnnotationNode> classAnnotations, final Map<String,Map<String,AnnotationNode>> fieldAnnotations, final Map<String,Map<String,AnnotationNode>> methodAnnotations) {
+      this.className = className;
+      this.classAnnotations = classAnnotations;
+      this.fieldAnnotations = fieldAnnotations;
+      this.methodAnnotations = methodAnnotations;
+    }
+
+    String getClassName() {
+      return className;
+    }
+
+    /**
+     * Returns the {@link AnnotationNode} for the annotation type descriptor {@code desc} declared on the class, or {@code null} if no
+     * such annotation exists.
+     *
+     * @param desc The annotation type descriptor.
+     * @return The {@link AnnotationNode} for {@code desc} declared on the class, or {@code null} if no such annotation exists.
+     */
+    AnnotationNode getClassAnnotation(final String desc) {
+      return classAnnotations.get(desc);
+    }
+
+    /**
+     * Returns the {@link AnnotationNode} for the annotation type descriptor {@code desc} declared on the field with the specified
+     * name, or {@code null} if no such field or annotation exists.
+     *
+     * @param fieldName The name of the field.
+     * @param desc The annotation type descriptor.
+     * @return The {@link AnnotationNode} for {@code desc} declared on the field with the specified name, or {@code null} if no such
+     *         field or annotation exists.
+     */
+    AnnotationNode getFieldAnnotation(final String fieldName, final String desc) {
+      final Map<String,AnnotationNode> annotations = fieldAnnotations.get(fieldName);
+      return annotations == null ? null : annotations.get(desc);
+    }
+
+    /**
+     * Returns the map of field name to annotations declared on the field, in the order the fields are declared in bytecode. Fields
+     * without annotations are not present in the map.
+     *
+     * @return The map of field name to annotations declared on the field.
+     */
+    Map<String,Map<String,AnnotationNode>> getFieldAnnotations() {
+      return fieldAnnotations;
+    }
+
+    /**
+     * Returns the annotations declared on the class, keyed by annotation type descriptor.
+     *
+     * @return The annotations declared on the class, keyed by annotation type descriptor.
+     */
+    Map<String,AnnotationNode> getClassAnnotations() {
+      return classAnnotations;
+    }
+
+    /**
+     * Returns the map of method name and descriptor (concatenated) to annotations declared on the method, in the order the methods
+     * are declared in bytecode. Methods without annotations are not present in the map. This map is only populated for tables that
+     * are read with {@link AnnotationReader#METHODS}.
+     *
+     * @return The map of method name and descriptor to annotations declared on the method.
+     */
+    Map<String,Map<String,AnnotationNode>> getMethodAnnotations() {
+      return methodAnnotations;
+    }
+  }
+
+  private static final Map<ClassLoader,ConcurrentHashMap<String,Table>> loaderToTables = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+
+  private static Table read(final ClassLoader classLoader, final String className) throws IOException {
+    try (final InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+      if (in == null)
+        throw new IllegalStateException("Unable to locate bytecode for class " + className + " in class loader " + classLoader);
+
+      return AnnotationReader.read(in, className, null, AnnotationReader.CLASS | AnnotationReader.FIELDS | AnnotationReader.VALUES);
+    }
+  }
+
+  /**
+   * Returns the annotation {@link Table} for the class with the specified name, as read from the bytecode located by
+   * {@code classLoader}. The bytecode of each class is read at most once per {@link ClassLoader}.
+   *
+   * @param classLoader The {@link ClassLoader} by which to locate the bytecode.
+   * @param className The binary name of the class.
+   * @return The annotation {@link Table} for the class with the specified name.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalStateException If the bytecode of the class cannot be located by {@code classLoader}.
+   * @throws NullPointerException If {@code classLoader} or {@code className} is null.
+   */
+  static Table getTable(final ClassLoader classLoader, final String className) throws IOException {
+    ConcurrentHashMap<String,Table> tables = loaderToTables.get(classLoader);
+    if (tables == null) {
+      synchronized (loaderToTables) {
+        tables = loaderToTables.get(classLoader);
+        if (tables == null)
+          loaderToTables.put(classLoader, tables = new ConcurrentHashMap<>());
+      }
+    }
+
+    Table table = tables.get(className);
+    if (table != null) {
+      hits.increment();
+      return table;
+    }
+
+    misses.increment();
+    table = read(classLoader, className);
+    final Table existing = tables.putIfAbsent(className, table);
+    return existing != null ? existing : table;
+  }
+
+  /**
+   * Returns the number of lookups that were served from the cache.
+   *
+   * @return The number of lookups that were served from the cache.
+   */
+  public static long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that required the bytecode of a class to be read.
+   *
+   * @return The number of lookups that required the bytecode of a class to be read.
+   */
+  public static long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Removes all annotation tables from the cache, and resets the hit and miss counters.
+   */
+  public static void clear() {
+    loaderToTables.clear();
+    hits.reset();
+    misses.reset();
+  }
+
+  private AnnotationCache() {
+  }
+}
@@ -0,0 +1,813 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+
+/**
+ * Factory of annotation instances for given annotation types and member values.
+ * <p>
+ * For each annotation type, a final implementation class is generated once, with a field for each member, and an accessor that
+ * reads the field directly. Members absent from the provided values are resolved to the defaults declared by the annotation type.
+ * The instances implement {@link Annotation#equals(Object)}, {@link Annotation#hashCode()}, {@link Annotation#toString()} and
+ * {@link Annotation#annotationType()} as specified by {@link Annotation}, and can therefore be cached and used as map keys.
+ * <p>
+ * If an implementation class cannot be generated for an annotation type (such as for an annotation type that is not public), the
+ * instances are {@link Proxy}s that provide the same semantics.
+ */
+public final class AnnotationFactory {
+  /**
+   * The base class of generated annotation implementations. This class is public only so that it is accessible to the generated
+   * classes, which are defined in their own {@link ClassLoader}.
+   */
+  public abstract static class AbstractAnnotation implements Annotation {
+    final Members members;
+    private final BitSet missing;
+    private final Object[] raw;
+    private final ClassLoader classLoader;
+    private int hashCode;
+
+    protected AbstractAnnotation(final Object members, final Object missing, final Object[] raw, final ClassLoader classLoader) {
+      this.members = (Members)members;
+      this.missing = (BitSet)missing;
+      this.raw = raw;
+      this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the value of the member at the specified slot, decoded from its raw bytecode representation. This method is invoked on
+     * first access of members of types that require resolution against a {@link ClassLoader}, such as {@link Class}, {@link Enum},
+     * {@link Annotation}, and arrays thereof.
+     *
+     * @param slot The slot of the member.
+     * @return The value of the member at the specified slot, decoded from its raw bytecode representation.
+     */
+    protected final Object resolve(final int slot) {
+      return raw == null ? null : decode(members.types[slot], raw[slot], classLoader);
+    }
+
+    /**
+     * Returns the value of the member at the specified slot, without a defensive copy of array values.
+     *
+     * @param slot The slot of the member.
+     * @return The value of the member at the specified slot, with primitive values boxed.
+     */
+    protected abstract Object memberValue(int slot);
+
+    /**
+     * Asserts that a value is present for the member at the specified slot.
+     *
+     * @param slot The slot of the member.
+     * @throws IncompleteAnnotationException If no value is present for the member at the specified slot.
+     */
+    protected final void checkMissing(final int slot) {
+      if (missing != null && missing.get(slot))
+        throw new IncompleteAnnotationException(members.annotationType, members.names[slot]);
+    }
+
+    @Override
+    public final Class<? extends Annotation> annotationType() {
+      return members.annotationType;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!members.annotationType.isInstance(obj))
+        return false;
+
+      final AbstractAnnotation that = obj instanceof AbstractAnnotation ? (AbstractAnnotation)obj : Proxy.isProxyClass(obj.getClass()) && Proxy.getInvocationHandler(obj) instanceof ProxyAnnotation ? (ProxyAnnotation)Proxy.getInvocationHandler(obj) : null;
+      for (int i = 0, i$ = members.names.length; i < i$; ++i) { // [A]
+        final Object value;
+        if (that != null) {
+          value = that.memberValue(i);
+        }
+        else {
+          try {
+            value = members.methods[i].invoke(obj);
+          }
+          catch (final IllegalAccessException | InvocationTargetException e) {
+            return false;
+          }
+        }
+
+        if (!memberValueEquals(memberValue(i), value))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public final int hashCode() {
+      if (hashCode != 0)
+        return hashCode;
+
+      int hashCode = 0;
+      for (int i = 0, i$ = members.names.length; i < i$; ++i) // [A]
+        hashCode += (127 * members.names[i].hashCode()) ^ memberValueHashCode(memberValue(i));
+
+      return this.hashCode = hashCode;
+    }
+
+    @Override
+    public final String toString() {
+      final StringBuilder builder = new StringBuilder();
+      builder.append('@').append(members.annotationType.getName()).append('(');
+      for (int i = 0, i$ = members.names.length; i < i$; ++i) { // [A]
+        if (i > 0)
+          builder.append(", ");
+
+        builder.append(members.names[i]).append('=');
+        final Object value = memberValue(i);
+        if (value == null || !value.getClass().isArray())
+          builder.append(value instanceof String ? "\"" + value + "\"" : value);
+        else if (value instanceof Object[])
+          builder.append(Arrays.toString((Object[])value));
+        else
+          builder.append(Arrays.toString(toObjectArray(value)));
+      }
+
+      return builder.append(')').toString();
+    }
+  }
+
+  /**
+   * An {@link AbstractAnnotation} for annotation types for which an implementation class cannot be generated, which serves as the
+   * {@link InvocationHandler} of the {@link Proxy} instance.
+   */
+  private static final class ProxyAnnotation extends AbstractAnnotation implements InvocationHandler {
+    private final Object[] values;
+
+    private ProxyAnnotation(final Members members, final BitSet missing, final Object[] values, final Object[] raw, final ClassLoader classLoader) {
+      super(members, missing, raw, classLoader);
+      this.values = values;
+    }
+
+    @Override
+    protected Object memberValue(final int slot) {
+      final Object value = values[slot];
+      return value != null || !members.lazy[slot] ? value : (values[slot] = resolve(slot));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+      final String name = method.getName();
+      if (args != null && args.length == 1 && "equals".equals(name))
+        return proxy == args[0] || equals(args[0]);
+
+      if (args == null || args.length == 0) {
+        final Integer slot = members.nameToSlot.get(name);
+        if (slot != null) {
+          checkMissing(slot);
+          final Object value = memberValue(slot);
+          return value != null && value.getClass().isArray() && Array.getLength(value) > 0 ? cloneArray(value) : value;
+        }
+
+        if ("hashCode".equals(name))
+          return hashCode();
+
+        if ("toString".equals(name))
+          return toString();
+
+        if ("annotationType".equals(name))
+          return annotationType();
+      }
+
+      throw new UnsupportedOperationException(method.toString());
+    }
+  }
+
+  /**
+   * The members of an annotation type, and the implementation class generated for it.
+   */
+  private static final class Members {
+    private final Class<? extends Annotation> annotationType;
+    private final Method[] methods;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final Object[] defaults;
+    private final boolean[] lazy;
+    private final HashMap<String,Integer> nameToSlot;
+    private final Constructor<?> constructor;
+
+    private Members(final Class<? extends Annotation> annotationType) {
+      this.annotationType = annotationType;
+      final Method[] methods = annotationType.getDeclaredMethods();
+      Arrays.sort(methods, Comparator.comparing(Method::getName));
+      final int len = methods.length;
+      this.methods = methods;
+      this.names = new String[len];
+      this.types = new Class<?>[len];
+      this.defaults = new Object[len];
+      this.lazy = new boolean[len];
+      this.nameToSlot = new HashMap<>(len);
+      for (int i = 0; i < len; ++i) { // [A]
+        final Method method = methods[i];
+        names[i] = method.getName();
+        types[i] = method.getReturnType();
+        defaults[i] = method.getDefaultValue();
+        lazy[i] = requiresResolution(types[i]);
+        nameToSlot.put(names[i], i);
+        try {
+          method.setAccessible(true);
+        }
+        catch (final RuntimeException e) {
+        }
+      }
+
+      this.constructor = Modifier.isPublic(annotationType.getModifiers()) ? generate(this) : null;
+    }
+  }
+
+  private static final ClassValue<Members> typeToMembers = new ClassValue<Members>() {
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Members computeValue(final Class<?> type) {
+      return new Members((Class<? extends Annotation>)type);
+    }
+  };
+
+  /**
+   * A {@link ClassLoader} that defines a generated annotation implementation class, and resolves all other classes from the
+   * {@link ClassLoader} of the annotation type, except for {@link AbstractAnnotation}, which may not be visible to it.
+   */
+  private static final class DefiningClassLoader extends ClassLoader {
+    private DefiningClassLoader(final ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+      return AbstractAnnotation.class.getName().equals(name) ? AbstractAnnotation.class : super.loadClass(name, resolve);
+    }
+
+    private Class<?> define(final String name, final byte[] bytes) {
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+
+  private static final String ABSTRACT_ANNOTATION = Type.getInternalName(AbstractAnnotation.class);
+  private static final String OBJECT = Type.getInternalName(Object.class);
+
+  /**
+   * Returns whether values of the specified member type require resolution against a {@link ClassLoader}, and are therefore decoded
+   * lazily on first access.
+   *
+   * @param type The member type.
+   * @return Whether values of the specified member type require resolution against a {@link ClassLoader}.
+   */
+  private static boolean requiresResolution(Class<?> type) {
+    if (type.isArray())
+      type = type.getComponentType();
+
+    return type == Class.class || type.isEnum() || type.isAnnotation();
+  }
+
+  /**
+   * Emits the instructions to push the value of the member at the specified slot. If the member is lazy, its field is assigned from
+   * {@link AbstractAnnotation#resolve(int)} on first access.
+   */
+  private static void loadValue(final MethodVisitor mv, final String internalName, final Members members, final int slot, final Type type) {
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitFieldInsn(Opcodes.GETFIELD, internalName, members.names[slot], type.getDescriptor());
+    if (members.lazy[slot]) {
+      final Label resolved = new Label();
+      mv.visitInsn(Opcodes.DUP);
+      mv.visitJumpInsn(Opcodes.IFNONNULL, resolved);
+      mv.visitInsn(Opcodes.POP);
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitLdcInsn(slot);
+      mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalName, "resolve", "(I)Ljava/lang/Object;", false);
+      unbox(mv, type);
+      mv.visitInsn(Opcodes.DUP);
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitInsn(Opcodes.SWAP);
+      mv.visitFieldInsn(Opcodes.PUTFIELD, internalName, members.names[slot], type.getDescriptor());
+      mv.visitLabel(resolved);
+    }
+  }
+
+  private static Constructor<?> generate(final Members members) {
+    final String className = AnnotationFactory.class.getName() + "$Impl$" + members.annotationType.getName().replace('.', '_');
+    final String internalName = className.replace('.', '/');
+    final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+      @Override
+      protected String getCommonSuperClass(final String type1, final String type2) {
+        return OBJECT;
+      }
+    };
+
+    cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, internalName, null, ABSTRACT_ANNOTATION, new String[] {Type.getInternalName(members.annotationType)});
+    final String[] names = members.names;
+    final Class<?>[] types = members.types;
+    for (int i = 0, i$ = names.length; i < i$; ++i) // [A]
+      cw.visitField(members.lazy[i] ? Opcodes.ACC_PRIVATE : Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, names[i], Type.getDescriptor(types[i]), null, null).visitEnd();
+
+    MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;[Ljava/lang/Object;[Ljava/lang/Object;Ljava/lang/ClassLoader;)V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitVarInsn(Opcodes.ALOAD, 1);
+    mv.visitVarInsn(Opcodes.ALOAD, 2);
+    mv.visitVarInsn(Opcodes.ALOAD, 4);
+    mv.visitVarInsn(Opcodes.ALOAD, 5);
+    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, ABSTRACT_ANNOTATION, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;[Ljava/lang/Object;Ljava/lang/ClassLoader;)V", false);
+    for (int i = 0, i$ = names.length; i < i$; ++i) { // [A]
+      final Type type = Type.getType(types[i]);
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitVarInsn(Opcodes.ALOAD, 3);
+      mv.visitLdcInsn(i);
+      mv.visitInsn(Opcodes.AALOAD);
+      unbox(mv, type);
+      mv.visitFieldInsn(Opcodes.PUTFIELD, internalName, names[i], type.getDescriptor());
+    }
+
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    for (int i = 0, i$ = names.length; i < i$; ++i) { // [A]
+      final Type type = Type.getType(types[i]);
+      mv = cw.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, names[i], "()" + type.getDescriptor(), null, null);
+      mv.visitCode();
+      if (members.defaults[i] == null) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitLdcInsn(i);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalName, "checkMissing", "(I)V", false);
+      }
+
+      loadValue(mv, internalName, members, i, type);
+      if (type.getSort() == Type.ARRAY) {
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, type.getDescriptor(), "clone", "()Ljava/lang/Object;", false);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, type.getDescriptor());
+      }
+
+      mv.visitInsn(type.getOpcode(Opcodes.IRETURN));
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    }
+
+    mv = cw.visitMethod(Opcodes.ACC_PROTECTED | Opcodes.ACC_FINAL, "memberValue", "(I)Ljava/lang/Object;", null, null);
+    mv.visitCode();
+    if (names.length > 0) {
+      final Label[] labels = new Label[names.length];
+      for (int i = 0, i$ = labels.length; i < i$; ++i) // [A]
+        labels[i] = new Label();
+
+      final Label dflt = new Label();
+      mv.visitVarInsn(Opcodes.ILOAD, 1);
+      mv.visitTableSwitchInsn(0, labels.length - 1, dflt, labels);
+      for (int i = 0, i$ = names.length; i < i$; ++i) { // [A]
+        final Type type = Type.getType(types[i]);
+        mv.visitLabel(labels[i]);
+        loadValue(mv, internalName, members, i, type);
+        box(mv, type);
+        mv.visitInsn(Opcodes.ARETURN);
+      }
+
+      mv.visitLabel(dflt);
+    }
+
+    mv.visitInsn(Opcodes.ACONST_NULL);
+    mv.visitInsn(Opcodes.ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    cw.visitEnd();
+
+    try {
+      final Class<?> implClass = new DefiningClassLoader(members.annotationType.getClassLoader()).define(className, cw.toByteArray());
+      return implClass.getConstructor(Object.class, Object.class, Object[].class, Object[].class, ClassLoader.class);
+    }
+    catch (final LinkageError | NoSuchMethodException | SecurityException e) {
+      return null;
+    }
+  }
+
+  private static String getWrapperInternalName(final Type type) {
+    switch (type.getSort()) {
+      case Type.BOOLEAN:
+        return "java/lang/Boolean";
+      case Type.BYTE:
+        return "java/lang/Byte";
+      case Type.CHAR:
+        return "java/lang/Character";
+      case Type.SHORT:
+        return "java/lang/Short";
+      case Type.INT:
+        return "java/lang/Integer";
+      case Type.LONG:
+        return "java/lang/Long";
+      case Type.FLOAT:
+        return "java/lang/Float";
+      case Type.DOUBLE:
+        return "java/lang/Double";
+      default:
+        return null;
+    }
+  }
+
+  private static void unbox(final MethodVisitor mv, final Type type) {
+    final String wrapper = getWrapperInternalName(type);
+    if (wrapper == null) {
+      mv.visitTypeInsn(Opcodes.CHECKCAST, type.getSort() == Type.ARRAY ? type.getDescriptor() : type.getInternalName());
+    }
+    else {
+      mv.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+      mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper, type.getClassName() + "Value", "()" + type.getDescriptor(), false);
+    }
+  }
+
+  private static void box(final MethodVisitor mv, final Type type) {
+    final String wrapper = getWrapperInternalName(type);
+    if (wrapper != null)
+      mv.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + type.getDescriptor() + ")L" + wrapper + ";", false);
+  }
+
+  private static Class<?> wrap(final Class<?> type) {
+    if (!type.isPrimitive())
+      return type;
+
+    if (type == boolean.class)
+      return Boolean.class;
+
+    if (type == byte.class)
+      return Byte.class;
+
+    if (type == char.class)
+      return Character.class;
+
+    if (type == short.class)
+      return Short.class;
+
+    if (type == int.class)
+      return Integer.class;
+
+    if (type == long.class)
+      return Long.class;
+
+    if (type == float.class)
+      return Float.class;
+
+    return Double.class;
+  }
+
+  private static Object[] toObjectArray(final Object array) {
+    final Object[] objects = new Object[Array.getLength(array)];
+    for (int i = 0, i$ = objects.length; i < i$; ++i) // [A]
+      objects[i] = Array.get(array, i);
+
+    return objects;
+  }
+
+  private static Object cloneArray(final Object array) {
+    final int len = Array.getLength(array);
+    final Object clone = Array.newInstance(array.getClass().getComponentType(), len);
+    System.arraycopy(array, 0, clone, 0, len);
+    return clone;
+  }
+
+  private static boolean memberValueEquals(final Object a, final Object b) {
+    if (a == null || b == null)
+      return a == b;
+
+    if (!a.getClass().isArray())
+      return a.equals(b);
+
+    if (a instanceof Object[])
+      return b instanceof Object[] && Arrays.equals((Object[])a, (Object[])b);
+
+    if (a.getClass() != b.getClass())
+      return false;
+
+    if (a instanceof boolean[])
+      return Arrays.equals((boolean[])a, (boolean[])b);
+
+    if (a instanceof byte[])
+      return Arrays.equals((byte[])a, (byte[])b);
+
+    if (a instanceof char[])
+      return Arrays.equals((char[])a, (char[])b);
+
+    if (a instanceof short[])
+      return Arrays.equals((short[])a, (short[])b);
+
+    if (a instanceof int[])
+      return Arrays.equals((int[])a, (int[])b);
+
+    if (a instanceof long[])
+      return Arrays.equals((long[])a, (long[])b);
+
+    if (a instanceof float[])
+      return Arrays.equals((float[])a, (float[])b);
+
+    return Arrays.equals((double[])a, (double[])b);
+  }
+
+  private static int memberValueHashCode(final Object value) {
+    if (value == null)
+      return 0;
+
+    if (!value.getClass().isArray())
+      return value.hashCode();
+
+    if (value instanceof Object[])
+      return Arrays.hashCode((Object[])value);
+
+    if (value instanceof boolean[])
+      return Arrays.hashCode((boolean[])value);
+
+    if (value instanceof byte[])
+      return Arrays.hashCode((byte[])value);
+
+    if (value instanceof char[])
+      return Arrays.hashCode((char[])value);
+
+    if (value instanceof short[])
+      return Arrays.hashCode((short[])value);
+
+    if (value instanceof int[])
+      return Arrays.hashCode((int[])value);
+
+    if (value instanceof long[])
+      return Arrays.hashCode((long[])value);
+
+    if (value instanceof float[])
+      return Arrays.hashCode((float[])value);
+
+    return Arrays.hashCode((double[])value);
+  }
+
+  private static final Map<ClassLoader,ConcurrentHashMap<String,WeakReference<Class<?>>>> loaderToClasses = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Returns the {@link Class} for the specified ASM {@link Type}, as resolved by {@code classLoader}. Resolved classes are memoized
+   * per {@link ClassLoader}, and are referenced weakly so as to not prevent the collection of the {@link ClassLoader}.
+   *
+   * @param type The ASM {@link Type}.
+   * @param classLoader The {@link ClassLoader}.
+   * @return The {@link Class} for the specified ASM {@link Type}, as resolved by {@code classLoader}.
+   * @throws TypeNotPresentException If the class cannot be resolved.
+   */
+  private static Class<?> loadClass(final Type type, final ClassLoader classLoader) {
+    switch (type.getSort()) {
+      case Type.VOID:
+        return void.class;
+      case Type.BOOLEAN:
+        return boolean.class;
+      case Type.BYTE:
+        return byte.class;
+      case Type.CHAR:
+        return char.class;
+      case Type.SHORT:
+        return short.class;
+      case Type.INT:
+        return int.class;
+      case Type.LONG:
+        return long.class;
+      case Type.FLOAT:
+        return float.class;
+      case Type.DOUBLE:
+        return double.class;
+    }
+
+    ConcurrentHashMap<String,WeakReference<Class<?>>> nameToClass = loaderToClasses.get(classLoader);
+    if (nameToClass == null) {
+      synchronized (loaderToClasses) {
+        nameToClass = loaderToClasses.get(classLoader);
+        if (nameToClass == null)
+          loaderToClasses.put(classLoader, nameToClass = new ConcurrentHashMap<>());
+      }
+    }
+
+    final String name = type.getSort() == Type.ARRAY ? type.getDescriptor().replace('/', '.') : type.getClassName();
+    final WeakReference<Class<?>> reference = nameToClass.get(name);
+    Class<?> cls = reference == null ? null : reference.get();
+    if (cls == null) {
+      try {
+        cls = Class.forName(name, false, classLoader);
+      }
+      catch (final ClassNotFoundException e) {
+        throw new TypeNotPresentException(type.getClassName(), e);
+      }
+
+      nameToClass.put(name, new WeakReference<>(cls));
+    }
+
+    return cls;
+  }
+
+  /**
+   * Returns the value of the specified member type decoded from its raw bytecode representation, as provided by
+   * {@link AnnotationNode#values}.
+   *
+   * @param type The member type.
+   * @param raw The raw bytecode representation of the value.
+   * @param classLoader The {@link ClassLoader} against which {@link Class} values are resolved.
+   * @return The value of the specified member type decoded from its raw bytecode representation.
+   * @throws TypeNotPresentException If a {@link Class} value cannot be resolved.
+   * @throws EnumConstantNotPresentException If an {@link Enum} value cannot be resolved.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Object decode(final Class<?> type, final Object raw, final ClassLoader classLoader) {
+    if (raw instanceof List) {
+      final Class<?> componentType = type.getComponentType();
+      final List<?> list = (List<?>)raw;
+      final int len = list.size();
+      final Object array = Array.newInstance(componentType, len);
+      for (int i = 0; i < len; ++i) // [RA]
+        Array.set(array, i, decode(componentType, list.get(i), classLoader));
+
+      return array;
+    }
+
+    if (raw instanceof Type)
+      return loadClass((Type)raw, classLoader);
+
+    if (raw instanceof String[]) {
+      final String name = ((String[])raw)[1];
+      try {
+        return Enum.valueOf((Class<? extends Enum>)type, name);
+      }
+      catch (final IllegalArgumentException e) {
+        throw new EnumConstantNotPresentException((Class<? extends Enum>)type, name);
+      }
+    }
+
+    if (raw instanceof AnnotationNode)
+      return newInstance((Class<? extends Annotation>)type, (AnnotationNode)raw, classLoader);
+
+    return raw;
+  }
+
+  private static Object toMemberValue(final Members members, final int slot, final Object value) {
+    final Class<?> type = members.types[slot];
+    if (value instanceof List && type.isArray()) {
+      final List<?> list = (List<?>)value;
+      final int len = list.size();
+      final Object array = Array.newInstance(type.getComponentType(), len);
+      for (int i = 0; i < len; ++i) // [RA]
+        Array.set(array, i, list.get(i));
+
+      return array;
+    }
+
+    if (!wrap(type).isInstance(value))
+      throw new IllegalArgumentException("Value of type " + value.getClass().getName() + " is not assignable to member " + members.annotationType.getName() + "." + members.names[slot] + "() of type " + type.getName());
+
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Annotation> T newInstance(final Class<T> annotationType, final Members members, final BitSet missing, final Object[] values, final Object[] raw, final ClassLoader classLoader) {
+    if (members.constructor != null) {
+      try {
+        return (T)members.constructor.newInstance(members, missing, values, raw, classLoader);
+      }
+      catch (final InstantiationException | IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+      catch (final InvocationTargetException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException)
+          throw (RuntimeException)cause;
+
+        throw new IllegalStateException(cause);
+      }
+    }
+
+    return (T)Proxy.newProxyInstance(annotationType.getClassLoader(), new Class[] {annotationType}, new ProxyAnnotation(members, missing, values, raw, classLoader));
+  }
+
+  private static BitSet resolveDefault(final Members members, final Object[] values, final int slot, BitSet missing) {
+    if ((values[slot] = members.defaults[slot]) == null) {
+      if (missing == null)
+        missing = new BitSet(values.length);
+
+      missing.set(slot);
+      if (members.types[slot].isPrimitive())
+        values[slot] = Array.get(Array.newInstance(members.types[slot], 1), 0);
+    }
+
+    return missing;
+  }
+
+  /**
+   * Returns a new instance of an annotation of the specified type with the provided member values. Members absent from
+   * {@code memberValues} are resolved to their default values, as declared by {@code annotationType}.
+   *
+   * @param <T> Type parameter of the annotation class.
+   * @param annotationType The annotation type.
+   * @param memberValues The member values.
+   * @return A new instance of an annotation of the specified type with the provided member values.
+   * @throws IllegalArgumentException If a value in {@code memberValues} is not assignable to the type of its member.
+   * @throws NullPointerException If the specified {@code annotationType} or {@code memberValues} is null.
+   */
+  public static <T extends Annotation> T newInstance(final Class<T> annotationType, final Map<String,?> memberValues) {
+    Objects.requireNonNull(memberValues);
+    final Members members = typeToMembers.get(annotationType);
+    final int len = members.names.length;
+    final Object[] values = new Object[len];
+    BitSet missing = null;
+    for (int i = 0; i < len; ++i) { // [A]
+      final Object value = memberValues.get(members.names[i]);
+      if (value != null)
+        values[i] = toMemberValue(members, i, value);
+      else
+        missing = resolveDefault(members, values, i, missing);
+    }
+
+    return newInstance(annotationType, members, missing, values, null, null);
+  }
+
+  /**
+   * Returns a new instance of an annotation of the specified type with the member values of the provided {@link AnnotationNode}.
+   * Values of members of type {@link Class}, {@link Enum}, {@link Annotation}, and arrays thereof, are decoded lazily on first
+   * access, with {@link Class} values resolved against {@code classLoader}. Members absent from {@code annotationNode} are resolved
+   * to their default values, as declared by {@code annotationType}.
+   *
+   * @param <T> Type parameter of the annotation class.
+   * @param annotationType The annotation type.
+   * @param annotationNode The {@link AnnotationNode}.
+   * @param classLoader The {@link ClassLoader} against which {@link Class} values are resolved.
+   * @return A new instance of an annotation of the specified type with the member values of the provided {@link AnnotationNode}.
+   * @throws IllegalArgumentException If a value in {@code annotationNode} is not assignable to the type of its member.
+   * @throws NullPointerException If the specified {@code annotationType} or {@code annotationNode} is null.
+   */
+  static <T extends Annotation> T newInstance(final Class<T> annotationType, final AnnotationNode annotationNode, final ClassLoader classLoader) {
+    final Members members = typeToMembers.get(annotationType);
+    final int len = members.names.length;
+    final Object[] values = new Object[len];
+    final List<Object> nodeValues = annotationNode.values;
+    Object[] raw = null;
+    if (nodeValues != null) {
+      for (int i = 0, i$ = nodeValues.size(); i < i$;) { // [RA]
+        final Integer slot = members.nameToSlot.get((String)nodeValues.get(i++));
+        final Object value = nodeValues.get(i++);
+        if (slot == null)
+          continue;
+
+        if (members.lazy[slot]) {
+          if (raw == null)
+            raw = new Object[len];
+
+          raw[slot] = value;
+        }
+        else {
+          values[slot] = toMemberValue(members, slot, value);
+        }
+      }
+    }
+
+    BitSet missing = null;
+    for (int i = 0; i < len; ++i) // [A]
+      if (values[i] == null && (raw == null || raw[i] == null))
+        missing = resolveDefault(members, values, i, missing);
+
+    return newInstance(annotationType, members, missing, values, raw, classLoader);
+  }
+
+  private AnnotationFactory() {
+  }
+}
@@ -0,0 +1,486 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+
+/**
+ * An index of the annotated types, fields and methods in the class files of a classpath, as returned by
+ * {@link MojoUtil#getExecutionClasspath(org.apache.maven.project.MavenProject,org.apache.maven.plugin.MojoExecution,org.apache.maven.plugin.descriptor.PluginDescriptor,org.apache.maven.artifact.repository.ArtifactRepository,org.apache.maven.artifact.handler.ArtifactHandler)}.
+ * <p>
+ * Class files are read directly from directories and from the central directories of jars, in parallel, and without loading any
+ * class. Annotations of any retention spec are indexed by type only, and their member values are not decoded.
+ * <p>
+ * The index can be persisted to a file (such as under {@code target/}), in which case each jar is keyed by its size and last
+ * modified time, and each class file in a directory is keyed likewise, so that unchanged entries are not scanned again.
+ */
+public final class AnnotationIndex {
+  private static final int VERSION = 2;
+
+  /**
+   * An annotated type, field or method.
+   */
+  public static final class Element {
+    /**
+     * The kind of an annotated {@link Element}.
+     */
+    public enum Kind {
+      TYPE,
+      FIELD,
+      METHOD
+    }
+
+    private final Kind kind;
+    private final String className;
+    private final String name;
+    private final String descriptor;
+    private final String[] annotationTypes;
+
+    private Element(final Kind kind, final String className, final String name, final String descriptor, final String[] annotationTypes) {
+      this.kind = kind;
+      this.className = className;
+      this.name = name;
+      this.descriptor = descriptor;
+      this.annotationTypes = annotationTypes;
+    }
+
+    /**
+     * Returns the {@link Kind} of this element.
+     *
+     * @return The {@link Kind} of this element.
+     */
+    public Kind getKind() {
+      return kind;
+    }
+
+    /**
+     * Returns the binary name of the class that declares this element, or of the class itself if this element is a
+     * {@link Kind#TYPE}.
+     *
+     * @return The binary name of the class that declares this element.
+     */
+    public String getClassName() {
+      return className;
+    }
+
+    /**
+     * Returns the name of this element if this element is a {@link Kind#FIELD} or {@link Kind#METHOD}, or {@code null} if this
+     * element is a {@link Kind#TYPE}.
+     *
+     * @return The name of this element, or {@code null} if this element is a {@link Kind#TYPE}.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the bytecode descriptor of this element if this element is a {@link Kind#METHOD}, or {@code null} otherwise.
+     *
+     * @return The bytecode descriptor of this element if this element is a {@link Kind#METHOD}, or {@code null} otherwise.
+     */
+    public String getDescriptor() {
+      return descriptor;
+    }
+
+    /**
+     * Returns the binary names of the annotation types declared on this element.
+     *
+     * @return The binary names of the annotation types declared on this element.
+     */
+    public String[] getAnnotationTypes() {
+      return annotationTypes.clone();
+    }
+
+    private boolean isAnnotatedWith(final String annotationType) {
+      for (final String type : annotationTypes) // [A]
+        if (type.equals(annotationType))
+          return true;
+
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return kind == Kind.TYPE ? className : kind == Kind.FIELD ? className + "." + name : className + "." + name + descriptor;
+    }
+  }
+
+  /**
+   * The indexed {@link Element}s and the binary names of all classes of a jar or class file, keyed by its size and last modified time.
+   */
+  private static final class Entry {
+    private final long size;
+    private final long lastModified;
+    private final String[] classNames;
+    private final Element[] elements;
+
+    private Entry(final long size, final long lastModified, final String[] classNames, final Element[] elements) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.classNames = classNames;
+      this.elements = elements;
+    }
+  }
+
+  private static final Element[] EMPTY = {};
+  private static final String[] NO_CLASSES = {};
+
+  private static String[] toClassNames(final Map<String,AnnotationNode> annotations) {
+    final String[] classNames = new String[annotations.size()];
+    int i = 0;
+    for (final String desc : annotations.keySet()) // [S]
+      classNames[i++] = Type.getType(desc).getClassName();
+
+    return classNames;
+  }
+
+  private static Element[] read(final InputStream in, final String source) throws IOException {
+    final AnnotationCache.Table table;
+    try {
+      table = AnnotationReader.read(in, null, null, AnnotationReader.CLASS | AnnotationReader.FIELDS | AnnotationReader.METHODS);
+    }
+    catch (final RuntimeException e) {
+      // ASM signals an unsupported class file version or a malformed class file with an unchecked exception
+      throw new IOException("Unable to read class file " + source + ": " + e.getMessage(), e);
+    }
+
+    final Map<String,AnnotationNode> classAnnotations = table.getClassAnnotations();
+    final Map<String,Map<String,AnnotationNode>> fieldAnnotations = table.getFieldAnnotations();
+    final Map<String,Map<String,AnnotationNode>> methodAnnotations = table.getMethodAnnotations();
+    if (classAnnotations.size() == 0 && fieldAnnotations.size() == 0 && methodAnnotations.size() == 0)
+      return EMPTY;
+
+    final String className = table.getClassName();
+    final ArrayList<Element> elements = new ArrayList<>();
+    if (classAnnotations.size() > 0)
+      elements.add(new Element(Element.Kind.TYPE, className, null, null, toClassNames(classAnnotations)));
+
+    for (final Map.Entry<String,Map<String,AnnotationNode>> entry : fieldAnnotations.entrySet()) // [S]
+      elements.add(new Element(Element.Kind.FIELD, className, entry.getKey(), null, toClassNames(entry.getValue())));
+
+    for (final Map.Entry<String,Map<String,AnnotationNode>> entry : methodAnnotations.entrySet()) { // [S]
+      final String nameAndDesc = entry.getKey();
+      final int index = nameAndDesc.indexOf('(');
+      elements.add(new Element(Element.Kind.METHOD, className, nameAndDesc.substring(0, index), nameAndDesc.substring(index), toClassNames(entry.getValue())));
+    }
+
+    return elements.toArray(new Element[elements.size()]);
+  }
+
+  private static boolean isClassFile(final String name) {
+    return name.endsWith(".class") && !name.startsWith("META-INF/") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+  }
+
+  private static String toClassName(final String name) {
+    return name.substring(0, name.length() - 6).replace('/', '.');
+  }
+
+  private static Entry scanJar(final File file, final long size, final long lastModified) throws IOException {
+    final ArrayList<String> classNames = new ArrayList<>();
+    final ArrayList<Element> elements = new ArrayList<>();
+    try (final ZipFile zipFile = new ZipFile(file)) {
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry zipEntry = entries.nextElement();
+        final String name = zipEntry.getName();
+        if (!zipEntry.isDirectory() && isClassFile(name)) {
+          classNames.add(toClassName(name));
+          try (final InputStream in = zipFile.getInputStream(zipEntry)) {
+            Collections.addAll(elements, read(in, file.getPath() + "!/" + name));
+          }
+        }
+      }
+    }
+
+    return new Entry(size, lastModified, classNames.toArray(new String[classNames.size()]), elements.toArray(new Element[elements.size()]));
+  }
+
+  private static List<Path> listClassFiles(final Path dir) throws IOException {
+    final ArrayList<Path> classFiles = new ArrayList<>();
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+        if (attrs.isRegularFile() && isClassFile(dir.relativize(file).toString().replace(File.separatorChar, '/')))
+          classFiles.add(file);
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    return classFiles;
+  }
+
+  /**
+   * Returns the {@link AnnotationIndex} of the specified classpath. If {@code indexFile} is not null, the index previously persisted
+   * to it (if any) is used to skip the scanning of unchanged jars and class files, and the updated index is persisted to it. As with a
+   * class loader, only the first occurrence of a class in the classpath is indexed.
+   *
+   * @param classpath The classpath entries, which are jars or directories.
+   * @param indexFile The file to which the index is persisted, or {@code null} if the index is not to be persisted.
+   * @return The {@link AnnotationIndex} of the specified classpath.
+   * @throws IOException If an I/O error has occurred, or if a class file could not be parsed, in which case the message names the
+   *           class file and the jar that contains it, if any.
+   * @throws NullPointerException If {@code classpath} is null.
+   */
+  public static AnnotationIndex scan(final File[] classpath, final File indexFile) throws IOException {
+    final Map<String,Entry> previous = indexFile != null && indexFile.isFile() ? load(indexFile) : Collections.emptyMap();
+    final ConcurrentHashMap<String,Entry> pathToEntry = new ConcurrentHashMap<>();
+    final List<Entry> entries;
+    try {
+      entries = Arrays.stream(classpath).parallel().<Entry>flatMap((final File file) -> {
+        try {
+          final Path path = file.toPath().toAbsolutePath();
+          if (Files.isDirectory(path)) {
+            return listClassFiles(path).parallelStream().map((final Path classFile) -> {
+              try {
+                return scan(previous, pathToEntry, classFile, toClassName(path.relativize(classFile).toString().replace(File.separatorChar, '/')));
+              }
+              catch (final IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+          }
+
+          return Files.isRegularFile(path) ? Stream.<Entry>of(scan(previous, pathToEntry, path, null)) : Stream.<Entry>empty();
+        }
+        catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }).collect(Collectors.toList());
+    }
+    catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    if (indexFile != null)
+      save(indexFile, pathToEntry);
+
+    // A class that is shadowed by an earlier classpath entry is not indexed
+    final HashSet<String> classNames = new HashSet<>();
+    final ArrayList<Element> all = new ArrayList<>();
+    for (int i = 0, i$ = entries.size(); i < i$; ++i) { // [RA]
+      final Entry entry = entries.get(i);
+      for (final Element element : entry.elements) // [A]
+        if (!classNames.contains(element.className))
+          all.add(element);
+
+      Collections.addAll(classNames, entry.classNames);
+    }
+
+    return new AnnotationIndex(all);
+  }
+
+  private static Entry scan(final Map<String,Entry> previous, final Map<String,Entry> pathToEntry, final Path path, final String className) throws IOException {
+    final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+    final String key = path.toString();
+    final long size = attrs.size();
+    final long lastModified = attrs.lastModifiedTime().toMillis();
+    Entry entry = previous.get(key);
+    if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+      if (className == null) {
+        entry = scanJar(path.toFile(), size, lastModified);
+      }
+      else {
+        try (final InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+          entry = new Entry(size, lastModified, new String[] {className}, read(in, key));
+        }
+      }
+    }
+
+    pathToEntry.put(key, entry);
+    return entry;
+  }
+
+  private static Map<String,Entry> load(final File indexFile) {
+    try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+      if (in.readInt() != VERSION)
+        return Collections.emptyMap();
+
+      final int size = in.readInt();
+      final HashMap<String,Entry> pathToEntry = new HashMap<>(size);
+      for (int i = 0; i < size; ++i) {
+        final String path = in.readUTF();
+        final long fileSize = in.readLong();
+        final long lastModified = in.readLong();
+        final String[] classNames = new String[in.readInt()];
+        for (int j = 0, j$ = classNames.length; j < j$; ++j) // [A]
+          classNames[j] = in.readUTF();
+
+        final Element[] elements = new Element[in.readInt()];
+        for (int j = 0, j$ = elements.length; j < j$; ++j) { // [A]
+          final Element.Kind kind = Element.Kind.values()[in.readByte()];
+          final String className = in.readUTF();
+          final String name = kind == Element.Kind.TYPE ? null : in.readUTF();
+          final String descriptor = kind == Element.Kind.METHOD ? in.readUTF() : null;
+          final String[] annotationTypes = new String[in.readInt()];
+          for (int k = 0, k$ = annotationTypes.length; k < k$; ++k) // [A]
+            annotationTypes[k] = in.readUTF();
+
+          elements[j] = new Element(kind, className, name, descriptor, annotationTypes);
+        }
+
+        pathToEntry.put(path, new Entry(fileSize, lastModified, classNames.length == 0 ? NO_CLASSES : classNames, elements.length == 0 ? EMPTY : elements));
+      }
+
+      return pathToEntry;
+    }
+    catch (final IOException | RuntimeException e) {
+      // A corrupt or incompatible index is discarded, and the classpath is scanned in full
+      return Collections.emptyMap();
+    }
+  }
+
+  private static void save(final File indexFile, final Map<String,Entry> pathToEntry) throws IOException {
+    final Path parent = indexFile.getAbsoluteFile().getParentFile().toPath();
+    Files.createDirectories(parent);
+    final Path temp = Files.createTempFile(parent, indexFile.getName(), ".tmp");
+    try {
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(VERSION);
+        out.writeInt(pathToEntry.size());
+        for (final Map.Entry<String,Entry> mapEntry : pathToEntry.entrySet()) { // [S]
+          final Entry entry = mapEntry.getValue();
+          out.writeUTF(mapEntry.getKey());
+          out.writeLong(entry.size);
+          out.writeLong(entry.lastModified);
+          out.writeInt(entry.classNames.length);
+          for (final String className : entry.classNames) // [A]
+            out.writeUTF(className);
+
+          out.writeInt(entry.elements.length);
+          for (final Element element : entry.elements) { // [A]
+            out.writeByte(element.kind.ordinal());
+            out.writeUTF(element.className);
+            if (element.kind != Element.Kind.TYPE)
+              out.writeUTF(element.name);
+
+            if (element.kind == Element.Kind.METHOD)
+              out.writeUTF(element.descriptor);
+
+            out.writeInt(element.annotationTypes.length);
+            for (final String annotationType : element.annotationTypes) // [A]
+              out.writeUTF(annotationType);
+          }
+        }
+      }
+
+      Files.move(temp, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private final List<Element> elements;
+
+  private AnnotationIndex(final List<Element> elements) {
+    this.elements = elements;
+  }
+
+  /**
+   * Returns all annotated {@link Element}s in this index, in classpath order.
+   *
+   * @return All annotated {@link Element}s in this index, in classpath order.
+   */
+  public List<Element> getElements() {
+    return Collections.unmodifiableList(elements);
+  }
+
+  /**
+   * Returns the annotated {@link Element}s of the specified {@link Element.Kind} that are annotated with the annotation type of the
+   * specified binary name, in classpath order.
+   *
+   * @param kind The {@link Element.Kind}.
+   * @param annotationType The binary name of the annotation type.
+   * @return The annotated {@link Element}s of the specified {@link Element.Kind} that are annotated with the annotation type of the
+   *         specified binary name.
+   * @throws NullPointerException If {@code kind} or {@code annotationType} is null.
+   */
+  public List<Element> getElements(final Element.Kind kind, final String annotationType) {
+    final ArrayList<Element> matches = new ArrayList<>();
+    for (int i = 0, i$ = elements.size(); i < i$; ++i) { // [RA]
+      final Element element = elements.get(i);
+      if (element.kind == kind && element.isAnnotatedWith(annotationType))
+        matches.add(element);
+    }
+
+    return matches;
+  }
+
+  /**
+   * Returns the types that are annotated with the specified annotation type, in classpath order.
+   *
+   * @param annotationType The annotation type.
+   * @return The types that are annotated with the specified annotation type.
+   * @throws NullPointerException If {@code annotationType} is null.
+   */
+  public List<Element> getAnnotatedTypes(final Class<? extends Annotation> annotationType) {
+    return getElements(Element.Kind.TYPE, annotationType.getName());
+  }
+
+  /**
+   * Returns the fields that are annotated with the specified annotation type, in classpath order.
+   *
+   * @param annotationType The annotation type.
+   * @return The fields that are annotated with the specified annotation type.
+   * @throws NullPointerException If {@code annotationType} is null.
+   */
+  public List<Element> getAnnotatedFields(final Class<? extends Annotation> annotationType) {
+    return getElements(Element.Kind.FIELD, annotationType.getName());
+  }
+
+  /**
+   * Returns the methods that are annotated with the specified annotation type, in classpath order.
+   *
+   * @param annotationType The annotation type.
+   * @return The methods that are annotated with the specified annotation type.
+   * @throws NullPointerException If {@code annotationType} is null.
+   */
+  public List<Element> getAnnotatedMethods(final Class<? extends Annotation> annotationType) {
+    return getElements(Element.Kind.METHOD, annotationType.getName());
+  }
+}
@@ -0,0 +1,205 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AnnotationNode;
+
+/**
+ * A streaming {@link ClassVisitor} that collects annotation data of a class file without materializing its full tree. Code, debug
+ * information and frames are skipped, annotations of types other than the requested descriptors are not decoded, and the scan is
+ * aborted as soon as all requested targets have been visited.
+ */
+final class AnnotationReader extends ClassVisitor {
+  private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+  /**
+   * The highest ASM API version supported by the ASM library on the classpath, which is necessary for the visitation of class files
+   * that declare attributes introduced in later versions of the JVM specification (such as {@code NestMembers}).
+   */
+  static final int API = getApi();
+
+  private static int getApi() {
+    for (int version = 12; version > 5; --version) {
+      try {
+        return Opcodes.class.getField("ASM" + version).getInt(null);
+      }
+      catch (final IllegalAccessException | NoSuchFieldException e) {
+      }
+    }
+
+    return Opcodes.ASM5;
+  }
+
+  /**
+   * Thrown to abort {@link ClassReader#accept(ClassVisitor,int)} once all requested targets have been visited. The instance is
+   * shared and stackless, because it is used for control flow only.
+   */
+  private static final RuntimeException STOP = new RuntimeException(null, null, false, false) {
+    private static final long serialVersionUID = -7310839327592543785L;
+  };
+
+  /** Flag to collect the annotations declared on the class. */
+  static final int CLASS = 1;
+  /** Flag to collect the annotations declared on the fields of the class. */
+  static final int FIELDS = 1 << 1;
+  /** Flag to collect the annotations declared on the methods of the class. */
+  static final int METHODS = 1 << 2;
+  /** Flag to decode the member values of the collected annotations, which are otherwise recorded by descriptor only. */
+  static final int VALUES = 1 << 3;
+
+  /**
+   * Reads the annotations of the requested targets in the class file provided by {@code in}.
+   *
+   * @param in The {@link InputStream} of the class file.
+   * @param className The binary name of the class, or {@code null} to use the name declared in the class file.
+   * @param descriptors The annotation type descriptors to collect, or {@code null} to collect annotations of all types.
+   * @param flags The bitwise OR of {@link #CLASS}, {@link #FIELDS}, {@link #METHODS} and {@link #VALUES}, which specify the targets
+   *          to collect.
+   * @return The {@link AnnotationCache.Table} of the collected annotations.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  static AnnotationCache.Table read(final InputStream in, final String className, final Set<String> descriptors, final int flags) throws IOException {
+    final AnnotationReader reader = new AnnotationReader(descriptors, flags);
+    try {
+      new ClassReader(in).accept(reader, PARSING_OPTIONS);
+    }
+    catch (final RuntimeException e) {
+      if (e != STOP)
+        throw e;
+    }
+
+    return new AnnotationCache.Table(className != null ? className : reader.className, empty(reader.classAnnotations), empty(reader.fieldAnnotations), empty(reader.methodAnnotations));
+  }
+
+  private static <K,V> Map<K,V> empty(final Map<K,V> map) {
+    return map == null ? Collections.emptyMap() : map;
+  }
+
+  private final Set<String> descriptors;
+  private final int flags;
+
+  private String className;
+  private HashMap<String,AnnotationNode> classAnnotations;
+  private LinkedHashMap<String,Map<String,AnnotationNode>> fieldAnnotations;
+  private LinkedHashMap<String,Map<String,AnnotationNode>> methodAnnotations;
+
+  private AnnotationReader(final Set<String> descriptors, final int flags) {
+    super(API);
+    this.descriptors = descriptors;
+    this.flags = flags;
+  }
+
+  private boolean isRequested(final String desc) {
+    return descriptors == null || descriptors.contains(desc);
+  }
+
+  private AnnotationVisitor visitAnnotation(final Map<String,AnnotationNode> annotations, final String desc) {
+    if (annotations.containsKey(desc))
+      return null;
+
+    final AnnotationNode annotationNode = new AnnotationNode(desc);
+    annotations.put(desc, annotationNode);
+    return (flags & VALUES) != 0 ? annotationNode : null;
+  }
+
+  @Override
+  public void visit(final int version, final int access, final String name, final String signature, final String superName, final String[] interfaces) {
+    className = name.replace('/', '.');
+  }
+
+  @Override
+  public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+    if ((flags & CLASS) == 0 || !isRequested(desc))
+      return null;
+
+    if (classAnnotations == null)
+      classAnnotations = new HashMap<>();
+
+    return visitAnnotation(classAnnotations, desc);
+  }
+
+  @Override
+  public FieldVisitor visitField(final int access, final String name, final String desc, final String signature, final Object value) {
+    if ((flags & FIELDS) == 0) {
+      // Class annotations are visited before fields and methods, so there is nothing left to collect
+      if ((flags & METHODS) == 0)
+        throw STOP;
+
+      return null;
+    }
+
+    return new FieldVisitor(api) {
+      private HashMap<String,AnnotationNode> annotations;
+
+      @Override
+      public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+        if (!isRequested(desc))
+          return null;
+
+        if (annotations == null) {
+          if (fieldAnnotations == null)
+            fieldAnnotations = new LinkedHashMap<>();
+
+          fieldAnnotations.put(name, annotations = new HashMap<>());
+        }
+
+        return AnnotationReader.this.visitAnnotation(annotations, desc);
+      }
+    };
+  }
+
+  @Override
+  public MethodVisitor visitMethod(final int access, final String name, final String desc, final String signature, final String[] exceptions) {
+    // Methods are visited after all fields, so if methods are not requested, there is nothing left to collect
+    if ((flags & METHODS) == 0)
+      throw STOP;
+
+    return new MethodVisitor(api) {
+      private HashMap<String,AnnotationNode> annotations;
+
+      @Override
+      public AnnotationVisitor visitAnnotation(final String annotationDesc, final boolean visible) {
+        if (!isRequested(annotationDesc))
+          return null;
+
+        if (annotations == null) {
+          if (methodAnnotations == null)
+            methodAnnotations = new LinkedHashMap<>();
+
+          methodAnnotations.put(name + desc, annotations = new HashMap<>());
+        }
+
+        return AnnotationReader.this.visitAnnotation(annotations, annotationDesc);
+      }
+    };
+  }
+}
@@ -17,91 +17,21 @@
 package org.openjax.maven.mojo;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
-import java.util.Enumeration;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 
-import org.libj.util.ArrayUtil;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AnnotationNode;
-import org.objectweb.asm.tree.ClassNode;
-import org.objectweb.asm.tree.FieldNode;
 
 /**
  * Utility class providing access to annotation data via bytecode.
  */
 public final class AnnotationUtil {
-  private static final Type[] PRIMITIVE_TYPES = {Type.BOOLEAN_TYPE, Type.BYTE_TYPE, Type.SHORT_TYPE, Type.CHAR_TYPE, Type.INT_TYPE, Type.LONG_TYPE, Type.FLOAT_TYPE, Type.DOUBLE_TYPE};
-
-  private static boolean isPrimitive(final Type type) {
-    return ArrayUtil.contains(PRIMITIVE_TYPES, type);
-  }
-
-  @SuppressWarnings({"rawtypes", "unchecked"})
-  private static Object getInstance(final Type type, final Object value) {
-    if (isPrimitive(type) || String.class.getName().equals(type.getClassName()))
-      return value;
-
-    if (Enumeration.class.getName().equals(type.getClassName()))
-      throw new UnsupportedOperationException();
-
-    try {
-      if (Class.class.getName().equals(type.getClassName()))
-        return Class.forName((String)value);
-
-      final Class<?> cls = Class.forName(type.getClassName());
-      if (cls.isEnum())
-        return Enum.valueOf((Class<? extends Enum>)cls, (String)value);
-
-      throw new UnsupportedOperationException();
-    }
-    catch (final ClassNotFoundException e) {
-      throw new IllegalStateException(e);
-    }
-  }
-
-  private static Map<String,Object> getAnnotationParameters(final List<?> annotations, final String desc) {
-    final int i$;
-    if (annotations == null || (i$ = annotations.size()) == 0)
-      return null;
-
-    for (int i = 0; i < i$; ++i) { // [RA]
-      final AnnotationNode annotationNode = (AnnotationNode)annotations.get(i);
-      if (desc.equals(annotationNode.desc)) {
-        final Map<String,Object> parameters = new HashMap<>();
-        final List<Object> values = annotationNode.values;
-        if (values != null) {
-          for (int j = 0, j$ = values.size(); j < j$;) { // [RA]
-            final String name = (String)values.get(j++);
-            final Object rawValue = values.get(j++);
-            final Object value;
-            if (rawValue instanceof String[]) {
-              final String[] data = (String[])rawValue;
-              final Type type = Type.getType(data[0]);
-              value = getInstance(type.getSort() == Type.ARRAY ? type.getElementType() : type, data[1]);
-            }
-            else {
-              value = rawValue;
-            }
-
-            parameters.put(name, value);
-          }
-        }
-
-        return parameters;
-      }
-    }
-
-    return null;
+  private static String getDescriptor(final Class<? extends Annotation> annotationType) {
+    return "L" + annotationType.getName().replace('.', '/') + ";";
   }
 
   /**
@@ -116,21 +46,9 @@ public final class AnnotationUtil {
    * @throws IllegalArgumentException If {@code cls} or {@code annotationType} are null.
    */
   public static <T extends Annotation> T getAnnotationParameters(final Class<?> cls, final Class<T> annotationType) throws IOException {
-    try (final InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(cls.getName().replace('.', '/') + ".class")) {
-      if (in == null)
-        throw new IllegalStateException("Unable to locate bytecode for class " + cls.getName() + " in context class loader " + Thread.currentThread().getContextClassLoader());
-
-      final ClassReader classReader = new ClassReader(in);
-      final ClassNode classNode = new ClassNode();
-      classReader.accept(classNode, 0);
-      final String desc = "L" + annotationType.getName().replace('.', '/') + ";";
-      final Map<String,Object> invisible = getAnnotationParameters(classNode.invisibleAnnotations, desc);
-      if (invisible != null)
-        return annotationForMap(annotationType, invisible);
-
-      final Map<String,Object> visible = getAnnotationParameters(classNode.visibleAnnotations, desc);
-      return visible == null ? null : annotationForMap(annotationType, visible);
-    }
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    final AnnotationNode annotationNode = AnnotationCache.getTable(classLoader, cls.getName()).getClassAnnotation(getDescriptor(annotationType));
+    return annotationNode == null ? null : AnnotationFactory.newInstance(annotationType, annotationNode, classLoader);
   }
 
   /**
@@ -145,62 +63,88 @@ public final class AnnotationUtil {
    * @throws IllegalArgumentException If {@code field} or {@code annotationType} are null.
    */
   public static <T extends Annotation> T getAnnotationParameters(final Field field, final Class<T> annotationType) throws IOException {
-    try (final InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(field.getDeclaringClass().getName().replace('.', '/') + ".class")) {
-      if (in == null)
-        throw new IllegalStateException("Unable to locate bytecode for class " + field.getDeclaringClass().getName() + " in context class loader " + Thread.currentThread().getContextClassLoader());
-
-      final ClassReader classReader = new ClassReader(in);
-      final ClassNode classNode = new ClassNode();
-      classReader.accept(classNode, 0);
-      final List<FieldNode> fields = classNode.fields;
-      for (int i = 0, i$ = fields.size(); i < i$; ++i) { // [RA]
-        final FieldNode fieldNode = fields.get(i);
-        if (field.getName().equals(fieldNode.name)) {
-          final String desc = "L" + annotationType.getName().replace('.', '/') + ";";
-          final Map<String,Object> invisible = getAnnotationParameters(fieldNode.invisibleAnnotations, desc);
-          if (invisible != null)
-            return annotationForMap(annotationType, invisible);
-
-          final Map<String,Object> visible = getAnnotationParameters(fieldNode.visibleAnnotations, desc);
-          return visible == null ? null : annotationForMap(annotationType, visible);
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    final AnnotationNode annotationNode = AnnotationCache.getTable(classLoader, field.getDeclaringClass().getName()).getFieldAnnotation(field.getName(), getDescriptor(annotationType));
+    return annotationNode == null ? null : AnnotationFactory.newInstance(annotationType, annotationNode, classLoader);
+  }
+
+  /**
+   * Returns a map of each field declared in {@code cls} and its superclasses that is annotated with at least one of the specified
+   * {@code annotationTypes}, regardless of the annotations' retention spec, to the map of annotation type to annotation instance
+   * present on the field. The bytecode of each class in the hierarchy is read at most once. Fields are ordered from the topmost
+   * superclass down to {@code cls}, and in order of declaration within each class.
+   *
+   * @param cls The class.
+   * @param annotationTypes The annotation types.
+   * @return A map of each field declared in {@code cls} and its superclasses that is annotated with at least one of the specified
+   *         {@code annotationTypes}, to the map of annotation type to annotation instance present on the field.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code cls}, {@code annotationTypes}, or any member of {@code annotationTypes} is null.
+   */
+  @SafeVarargs
+  public static Map<Field,Map<Class<? extends Annotation>,Annotation>> getAnnotatedFields(final Class<?> cls, final Class<? extends Annotation> ... annotationTypes) throws IOException {
+    final String[] descs = new String[annotationTypes.length];
+    for (int i = 0, i$ = annotationTypes.length; i < i$; ++i) // [A]
+      descs[i] = getDescriptor(annotationTypes[i]);
+
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    final ArrayList<Class<?>> hierarchy = new ArrayList<>();
+    for (Class<?> type = cls; type != null && type != Object.class; type = type.getSuperclass())
+      hierarchy.add(type);
+
+    final LinkedHashMap<Field,Map<Class<? extends Annotation>,Annotation>> fieldToAnnotations = new LinkedHashMap<>();
+    for (int i = hierarchy.size() - 1; i >= 0; --i) { // [RA]
+      final Class<?> type = hierarchy.get(i);
+      final Map<String,Map<String,AnnotationNode>> fieldAnnotations = AnnotationCache.getTable(classLoader, type.getName()).getFieldAnnotations();
+      if (fieldAnnotations.size() == 0)
+        continue;
+
+      HashMap<String,Field> nameToField = null;
+      for (final Map.Entry<String,Map<String,AnnotationNode>> entry : fieldAnnotations.entrySet()) { // [S]
+        final Map<String,AnnotationNode> descToNode = entry.getValue();
+        LinkedHashMap<Class<? extends Annotation>,Annotation> annotations = null;
+        for (int j = 0, j$ = descs.length; j < j$; ++j) { // [A]
+          final AnnotationNode annotationNode = descToNode.get(descs[j]);
+          if (annotationNode != null) {
+            if (annotations == null)
+              annotations = new LinkedHashMap<>();
+
+            annotations.put(annotationTypes[j], AnnotationFactory.newInstance(annotationTypes[j], annotationNode, classLoader));
+          }
         }
-      }
 
-      return null;
+        if (annotations != null) {
+          if (nameToField == null) {
+            final Field[] fields = type.getDeclaredFields();
+            nameToField = new HashMap<>(fields.length);
+            for (final Field field : fields) // [A]
+              nameToField.put(field.getName(), field);
+          }
+
+          final Field field = nameToField.get(entry.getKey());
+          if (field != null)
+            fieldToAnnotations.put(field, annotations);
+        }
+      }
     }
+
+    return fieldToAnnotations;
   }
 
   /**
-   * Creates a new instance of an annotation of the specified type and provided member values.
+   * Creates a new instance of an annotation of the specified type and provided member values. Members absent from
+   * {@code memberValues} are resolved to their default values, as declared by {@code annotationType}.
    *
    * @param <T> Type parameter of the annotation class.
    * @param annotationType The annotation type.
    * @param memberValues The member values.
    * @return A new instance of an annotation of the specified type and provided member values.
-   * @throws IllegalArgumentException If any restrictions on the parameters are violated.
-   * @throws SecurityException If a security manager, <em>s</em>, is present and any of the following conditions is met:
-   *           <ul>
-   *           <li>the given {@code loader} is {@code null} and the caller's class loader is not {@code null} and the invocation of
-   *           {@link SecurityManager#checkPermission s.checkPermission} with {@code RuntimePermission("getClassLoader")} permission
-   *           denies access;</li>
-   *           <li>for each proxy interface, {@code intf}, the caller's class loader is not the same as or an ancestor of the class
-   *           loader for {@code intf} and invocation of {@link SecurityManager#checkPackageAccess s.checkPackageAccess()} denies
-   *           access to {@code intf};</li>
-   *           <li>any of the given proxy interfaces is non-public and the caller class is not in the same {@linkplain Package runtime
-   *           package} as the non-public interface and the invocation of {@link SecurityManager#checkPermission s.checkPermission}
-   *           with {@code ReflectPermission("newProxyInPackage.{package name}")} permission denies access.</li>
-   *           </ul>
+   * @throws IllegalArgumentException If a value in {@code memberValues} is not assignable to the type of its member.
    * @throws NullPointerException If the specified {@code annotationType} or {@code memberValues} is null.
+   * @see AnnotationFactory#newInstance(Class,Map)
    */
-  @SuppressWarnings({"unchecked"})
   static <T extends Annotation> T annotationForMap(final Class<T> annotationType, final Map<String,Object> memberValues) {
-    Objects.requireNonNull(memberValues);
-    return (T)Proxy.newProxyInstance(annotationType.getClassLoader(), new Class[] {annotationType}, new InvocationHandler() {
-      @Override
-      public Object invoke(final Object proxy, final Method method, final Object[] args) {
-        return memberValues.get(method.getName());
-      }
-    });
+    return AnnotationFactory.newInstance(annotationType, memberValues);
   }
 
   private AnnotationUtil() {
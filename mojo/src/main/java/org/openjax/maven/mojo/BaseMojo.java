@@ -16,6 +16,11 @@
 
 package org.openjax.maven.mojo;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.security.MessageDigest;
+
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecution;
@@ -31,6 +36,8 @@ import org.apache.maven.project.MavenProject;
  * <li>execution: The {@link MojoExecution}.</li>
  * <li>failOnNoOp: Whether the {@link Mojo} should fail on no-op. Default: true.</li>
  * <li>skip: Whether the {@link Mojo}'s execution should be skipped. Default: false.</li>
+ * <li>upToDateCheck: Whether the {@link Mojo}'s execution should be skipped if its inputs are unchanged since its last successful
+ * execution, as determined by {@link #digestInputs(MessageDigest)}. Default: false.</li>
  * </ul>
  */
 @Mojo(name = "base")
@@ -64,20 +71,29 @@ public abstract class BaseMojo extends AbstractMojo {
   private boolean offline;
 
   @Parameter(property = "failOnNoOp")
+  @ExecutionSetting
   private boolean failOnNoOp = true;
 
   @Parameter(property = "skipTests")
+  @ExecutionSetting
   private boolean skipTests = false;
 
   @Parameter(property = "maven.test.skip.exec")
+  @ExecutionSetting
   private boolean mavenTestSkipExec = false;
 
   @Parameter(property = "maven.test.skip")
+  @ExecutionSetting
   private boolean mavenTestSkip = false;
 
   @Parameter(property = "skip")
+  @ExecutionSetting
   private boolean skip = false;
 
+  @Parameter(property = "upToDateCheck")
+  @ExecutionSetting
+  private boolean upToDateCheck = false;
+
   private Boolean inTestPhase;
 
   protected MojoExecution getExecution() {
@@ -112,6 +128,10 @@ public abstract class BaseMojo extends AbstractMojo {
     return skip;
   }
 
+  protected boolean getUpToDateCheck() {
+    return upToDateCheck;
+  }
+
   protected Boolean getInTestPhase() {
     return inTestPhase;
   }
@@ -146,7 +166,94 @@ public abstract class BaseMojo extends AbstractMojo {
       return;
     }
 
+    if (!upToDateCheck) {
+      execute(new Configuration(failOnNoOp));
+      return;
+    }
+
+    final File stateFile = new File(MojoUtil.getStatusDir(project, execution), "inputs.sha256");
+    final String previous;
+    try {
+      previous = InputDigest.read(stateFile);
+    }
+    catch (final IOException e) {
+      throw new MojoExecutionException("Unable to read up-to-date state: " + stateFile.getAbsolutePath(), e);
+    }
+
+    final String digest = getInputDigest();
+    if (digest != null && digest.equals(previous)) {
+      getLog().info("Skipped (up-to-date: inputs unchanged since the last execution)");
+      onUpToDate();
+      return;
+    }
+
     execute(new Configuration(failOnNoOp));
+
+    // The digest of the inputs before the execution is persisted, so that inputs modified during the execution are digested again
+    try {
+      if (digest != null)
+        InputDigest.write(stateFile, digest);
+      else if (previous != null)
+        stateFile.delete();
+    }
+    catch (final IOException e) {
+      getLog().warn("Unable to write up-to-date state: " + stateFile.getAbsolutePath(), e);
+    }
+  }
+
+  private String getInputDigest() throws MojoExecutionException, MojoFailureException {
+    final MessageDigest digest = Digests.newDigest();
+    Digests.update(digest, getClass().getName());
+    Digests.update(digest, execution.getMojoDescriptor().getPluginDescriptor().getVersion());
+    if (!digestInputs(digest)) {
+      getLog().debug("Inputs cannot be digested for up-to-date check");
+      return null;
+    }
+
+    return Digests.toHex(digest.digest());
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the inputs of this {@link Mojo}, as is used to determine whether the execution
+   * is up-to-date if {@code upToDateCheck} is set. The default implementation digests the value of each field declared with
+   * {@link Parameter} that is neither {@linkplain Parameter#readonly() read-only} nor declared with {@link ExecutionSetting},
+   * including the content of the {@link File}s among them and of the files within the directories among them, which are digested by
+   * their path relative to the base directory of the project. Subclasses should override this method to digest any other inputs,
+   * such as the content of resources to which parameter values refer.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @return {@code false} if the inputs cannot be represented by the digest, in which case the execution is never skipped; otherwise
+   *         {@code true}.
+   * @throws MojoExecutionException If an unexpected problem occurs.
+   * @throws MojoFailureException If an expected problem occurs.
+   */
+  protected boolean digestInputs(final MessageDigest digest) throws MojoExecutionException, MojoFailureException {
+    final File basedir = project.getBasedir();
+    try {
+      for (final Field field : InputDigest.getParameterFields(getClass())) { // [A]
+        Digests.update(digest, field.getName());
+        if (!InputDigest.update(digest, field.get(this), basedir)) {
+          getLog().debug("Parameter cannot be digested: " + field.getName());
+          return false;
+        }
+      }
+
+      return true;
+    }
+    catch (final IllegalAccessException | IOException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Invoked instead of {@link #execute(Configuration)} if the execution is skipped because its inputs are unchanged since the last
+   * execution. Subclasses should override this method to replay the side effects of an execution on the build that are not persisted
+   * with its outputs, such as the registration of source roots. The default implementation does nothing.
+   *
+   * @throws MojoExecutionException If an unexpected problem occurs.
+   * @throws MojoFailureException If an expected problem occurs.
+   */
+  protected void onUpToDate() throws MojoExecutionException, MojoFailureException {
   }
 
   /**
@@ -0,0 +1,207 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * A content-addressed cache of the output trees of {@link GeneratorMojo} executions, which is stored in a directory that may be
+ * shared by builds. Each entry is a directory named by the digest of the inputs of the execution that produced it, alongside a
+ * {@code .entry} file that records its size, and the last modified time of which records its last access. Entries are added by an
+ * atomic move, so concurrent builds never observe a partial entry. An entry directory without a {@code .entry} file, as is left by a
+ * build that was interrupted after the move, is adopted by the next store of its key. Once the total size of the entries exceeds
+ * the maximum size, the least recently used entries are evicted.
+ */
+final class BuildCache {
+  private static final String ENTRY = ".entry";
+
+  private static void delete(final Path dir) throws IOException {
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+        Files.deleteIfExists(file);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(final Path dir, final IOException e) throws IOException {
+        Files.deleteIfExists(dir);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private static long size(final Path dir) throws IOException {
+    final long[] size = {0};
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+        size[0] += attrs.size();
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    return size[0];
+  }
+
+  private final Path dir;
+  private final long maxSize;
+
+  /**
+   * Creates a new {@link BuildCache} in the specified directory.
+   *
+   * @param dir The directory of the cache.
+   * @param maxSize The maximum total size of the entries in bytes, beyond which the least recently used entries are evicted.
+   * @throws NullPointerException If {@code dir} is null.
+   */
+  BuildCache(final File dir, final long maxSize) {
+    this.dir = dir.getAbsoluteFile().toPath();
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Restores the output tree of the entry for the specified key with the specified {@link OutputWriter}.
+   *
+   * @param key The key of the entry.
+   * @param writer The {@link OutputWriter}.
+   * @return The number of restored files, or {@code -1} if no entry exists for the specified key.
+   * @throws IOException If an I/O error has occurred, such as if the entry was evicted while it was being restored.
+   * @throws NullPointerException If {@code key} or {@code writer} is null.
+   */
+  int restore(final String key, final OutputWriter writer) throws IOException {
+    final Path entryFile = dir.resolve(key + ENTRY);
+    if (!Files.exists(entryFile))
+      return -1;
+
+    Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+    final Path entryDir = dir.resolve(key);
+    final int[] count = {0};
+    Files.walkFileTree(entryDir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+        writer.write(entryDir.relativize(file).toString().replace(File.separatorChar, '/'), Files.readAllBytes(file));
+        ++count[0];
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    return count[0];
+  }
+
+  /**
+   * Stores the files at the specified paths relative to the specified output directory as the entry for the specified key, unless
+   * an entry for the key exists, and evicts the least recently used entries if the maximum size is exceeded. If the directory of the
+   * entry exists without its {@code .entry} file, the directory is adopted as the entry.
+   *
+   * @param key The key of the entry.
+   * @param outputDir The output directory.
+   * @param paths The paths of the files relative to {@code outputDir}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code key}, {@code outputDir}, {@code paths}, or any member of {@code paths} is null.
+   */
+  void store(final String key, final File outputDir, final Collection<String> paths) throws IOException {
+    final Path entryDir = dir.resolve(key);
+    if (Files.exists(entryDir)) {
+      // The directory of an entry is moved into place before its .entry file is written, which may not have happened
+      if (!Files.exists(dir.resolve(key + ENTRY))) {
+        writeEntry(key, size(entryDir));
+        evict();
+      }
+
+      return;
+    }
+
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempDirectory(dir, key + ".");
+    long size = 0;
+    try {
+      for (final String path : paths) { // [C]
+        final Path source = new File(outputDir, path).toPath();
+        if (Files.isRegularFile(source)) {
+          final Path target = temp.resolve(path);
+          Files.createDirectories(target.getParent());
+          Files.copy(source, target);
+          size += Files.size(target);
+        }
+      }
+
+      Files.move(temp, entryDir, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (final DirectoryNotEmptyException | FileAlreadyExistsException e) {
+      return;
+    }
+    finally {
+      if (Files.exists(temp))
+        delete(temp);
+    }
+
+    writeEntry(key, size);
+    evict();
+  }
+
+  private void writeEntry(final String key, final long size) throws IOException {
+    final Path entryTemp = Files.createTempFile(dir, key, ".tmp");
+    Files.write(entryTemp, Long.toString(size).getBytes(StandardCharsets.UTF_8));
+    Files.move(entryTemp, dir.resolve(key + ENTRY), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private void evict() throws IOException {
+    final ArrayList<Object[]> entries = new ArrayList<>();
+    long total = 0;
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + ENTRY)) {
+      for (final Path entryFile : stream) { // [I]
+        try {
+          final long size = Long.parseLong(new String(Files.readAllBytes(entryFile), StandardCharsets.UTF_8).trim());
+          entries.add(new Object[] {entryFile, Files.getLastModifiedTime(entryFile).toMillis(), size});
+          total += size;
+        }
+        catch (final NoSuchFileException | NumberFormatException e) {
+        }
+      }
+    }
+
+    if (total <= maxSize)
+      return;
+
+    entries.sort((o1, o2) -> Long.compare((Long)o1[1], (Long)o2[1]));
+    for (int i = 0, i$ = entries.size(); i < i$ && total > maxSize; ++i) { // [RA]
+      final Object[] entry = entries.get(i);
+      final Path entryFile = (Path)entry[0];
+      final String name = entryFile.getFileName().toString();
+      final Path entryDir = dir.resolve(name.substring(0, name.length() - ENTRY.length()));
+      if (Files.deleteIfExists(entryFile) && Files.exists(entryDir))
+        delete(entryDir);
+
+      total -= (Long)entry[2];
+    }
+  }
+}
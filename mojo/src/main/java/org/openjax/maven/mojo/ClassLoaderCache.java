@@ -0,0 +1,280 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * A cache of {@link URLClassLoader}s keyed by the fingerprint of their ordered classpath and their parent {@link ClassLoader}. MOJO
+ * executions that resolve the same classpath share the same {@link URLClassLoader}, together with the jar handles that it holds open.
+ * <p>
+ * A {@link URLClassLoader} is acquired as a {@link Lease}, and is reference counted. When the cache exceeds its maximum size, the
+ * least recently used {@link URLClassLoader} is evicted, and is closed as soon as its last {@link Lease} is released. All
+ * {@link URLClassLoader}s are closed with the cache, which is scoped to the {@link MavenSession}.
+ */
+final class ClassLoaderCache implements AutoCloseable {
+  static final int DEFAULT_MAX_SIZE = 32;
+
+  /**
+   * Returns the {@link ClassLoaderCache} in the scope of the specified {@link MavenSession}.
+   *
+   * @param session The {@link MavenSession}.
+   * @return The {@link ClassLoaderCache} in the scope of the specified {@link MavenSession}.
+   * @throws NullPointerException If {@code session} is null.
+   */
+  static ClassLoaderCache get(final MavenSession session) {
+    return SessionScope.get(session, ClassLoaderCache.class, () -> new ClassLoaderCache(DEFAULT_MAX_SIZE));
+  }
+
+  /**
+   * A reference to a cached {@link URLClassLoader}, which must be closed when no longer in use.
+   */
+  final class Lease implements AutoCloseable {
+    private final Entry entry;
+    private boolean released;
+
+    private Lease(final Entry entry) {
+      this.entry = entry;
+    }
+
+    /**
+     * Returns the leased {@link URLClassLoader}.
+     *
+     * @return The leased {@link URLClassLoader}.
+     */
+    URLClassLoader getClassLoader() {
+      return entry.classLoader;
+    }
+
+    /**
+     * Returns the {@link URL} of the resource with the specified name, with the same result as
+     * {@link ClassLoader#getResource(String)} of the leased {@link URLClassLoader}. Resources are resolved parent-first, and the
+     * classpath of each {@link URLClassLoader} in this cache is resolved via its {@link ResourceIndex}, which is built on first
+     * use and shared by all leases.
+     *
+     * @param name The resource name.
+     * @return The {@link URL} of the resource with the specified name, or {@code null} if the resource could not be found.
+     * @throws NullPointerException If {@code name} is null.
+     */
+    URL getResource(final String name) {
+      return entry.getResource(name);
+    }
+
+    @Override
+    public void close() {
+      synchronized (ClassLoaderCache.this) {
+        if (released)
+          return;
+
+        released = true;
+        if (--entry.refCount == 0 && entry.evicted)
+          entry.close();
+      }
+    }
+  }
+
+  private static final class Key {
+    private final ClassLoader parent;
+    private final String fingerprint;
+    private final int hashCode;
+
+    private Key(final ClassLoader parent, final String fingerprint) {
+      this.parent = parent;
+      this.fingerprint = fingerprint;
+      this.hashCode = 31 * System.identityHashCode(parent) + fingerprint.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof Key))
+        return false;
+
+      final Key that = (Key)obj;
+      return parent == that.parent && fingerprint.equals(that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class Entry {
+    private final URL[] urls;
+    private final URLClassLoader classLoader;
+    private final Entry parent;
+    private int refCount;
+    private boolean evicted;
+    private volatile boolean closed;
+    private volatile Object index;
+
+    private Entry(final URL[] urls, final ClassLoader parent, final Entry parentEntry) {
+      this.urls = urls.clone();
+      this.classLoader = new URLClassLoader(urls, parent);
+      this.parent = parentEntry;
+    }
+
+    private URL getResource(final String name) {
+      final ClassLoader parentClassLoader = classLoader.getParent();
+      if (parentClassLoader == null || closed || !ResourceIndex.isIndexable(name))
+        return classLoader.getResource(name);
+
+      final URL url = parent != null && !parent.closed ? parent.getResource(name) : parentClassLoader.getResource(name);
+      return url != null ? url : findResource(name);
+    }
+
+    private URL findResource(final String name) {
+      Object index = this.index;
+      if (index == null) {
+        synchronized (this) {
+          if ((index = this.index) == null) {
+            final ResourceIndex resourceIndex = ResourceIndex.build(urls);
+            this.index = index = resourceIndex != null ? resourceIndex : Boolean.FALSE;
+          }
+        }
+      }
+
+      if (index == Boolean.FALSE)
+        return classLoader.findResource(name);
+
+      try {
+        return ((ResourceIndex)index).findResource(name);
+      }
+      catch (final MalformedURLException e) {
+        return classLoader.findResource(name);
+      }
+    }
+
+    private void close() {
+      closed = true;
+      try {
+        classLoader.close();
+      }
+      catch (final IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Returns the fingerprint of the ordered classpath of the specified {@link URL}s. The fingerprint of each {@code file:} URL to a
+   * regular file includes its length and last modified time, so that an archive that is rewritten during the session (such as by
+   * {@code install} of a module in the reactor) is not served by a stale {@link URLClassLoader}.
+   *
+   * @param urls The {@link URL}s.
+   * @return The fingerprint of the ordered classpath of the specified {@link URL}s.
+   */
+  static String fingerprint(final URL[] urls) {
+    final StringBuilder builder = new StringBuilder();
+    for (final URL url : urls) { // [A]
+      builder.append(url).append('\n');
+      if ("file".equals(url.getProtocol())) {
+        final File file = new File(url.getPath());
+        if (file.isFile())
+          builder.append(file.length()).append(':').append(file.lastModified()).append('\n');
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private final LinkedHashMap<Key,Entry> keyToEntry = new LinkedHashMap<>(16, 0.75f, true);
+  private final int maxSize;
+
+  ClassLoaderCache(final int maxSize) {
+    if (maxSize < 1)
+      throw new IllegalArgumentException("maxSize (" + maxSize + ") must be positive");
+
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns a {@link Lease} of the {@link URLClassLoader} of the specified classpath and parent {@link ClassLoader}, which is
+   * created if absent or if the classpath has changed since it was created.
+   *
+   * @param urls The {@link URL}s of the classpath.
+   * @param parent The parent {@link ClassLoader}.
+   * @return A {@link Lease} of the {@link URLClassLoader} of the specified classpath and parent {@link ClassLoader}.
+   * @throws NullPointerException If {@code urls} or any member of {@code urls} is null.
+   */
+  Lease acquire(final URL[] urls, final ClassLoader parent) {
+    final Key key = new Key(parent, fingerprint(urls));
+    synchronized (this) {
+      Entry entry = keyToEntry.get(key);
+      if (entry == null) {
+        keyToEntry.put(key, entry = new Entry(urls, parent, getEntry(parent)));
+        if (keyToEntry.size() > maxSize) {
+          final Iterator<Entry> iterator = keyToEntry.values().iterator();
+          do { // [I]
+            evict(iterator.next());
+            iterator.remove();
+          }
+          while (keyToEntry.size() > maxSize);
+        }
+      }
+
+      ++entry.refCount;
+      return new Lease(entry);
+    }
+  }
+
+  private Entry getEntry(final ClassLoader classLoader) {
+    if (classLoader instanceof URLClassLoader)
+      for (final Entry entry : keyToEntry.values()) // [C]
+        if (entry.classLoader == classLoader)
+          return entry;
+
+    return null;
+  }
+
+  private static void evict(final Entry entry) {
+    entry.evicted = true;
+    if (entry.refCount == 0)
+      entry.close();
+  }
+
+  /**
+   * Returns the number of {@link URLClassLoader}s in the cache.
+   *
+   * @return The number of {@link URLClassLoader}s in the cache.
+   */
+  synchronized int size() {
+    return keyToEntry.size();
+  }
+
+  /**
+   * Evicts all {@link URLClassLoader}s from the cache. {@link URLClassLoader}s that are not leased are closed immediately, and the
+   * others are closed as soon as their last {@link Lease} is released.
+   */
+  @Override
+  public synchronized void close() {
+    for (final Entry entry : keyToEntry.values()) // [C]
+      evict(entry);
+
+    keyToEntry.clear();
+  }
+}
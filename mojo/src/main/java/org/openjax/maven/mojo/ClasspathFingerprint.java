@@ -0,0 +1,401 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * A fingerprint of the content of a classpath, which is used to determine whether the classpath has changed since a previous build.
+ * <p>
+ * Archives are fingerprinted by the names, CRCs and sizes in their central directory, and directories by the content digests of
+ * their files. The state of each entry is persisted to a file, so that the next computation is incremental: archives whose size and
+ * last modified time are unchanged are not reopened, and only the files of directories whose size or last modified time have
+ * changed are rehashed. Entries are fingerprinted in parallel.
+ */
+public final class ClasspathFingerprint {
+  private static final int VERSION = 1;
+  private static final String FILE_NAME = "classpath.fingerprint";
+
+  private static final byte MISSING = 0;
+  private static final byte ARCHIVE = 1;
+  private static final byte DIRECTORY = 2;
+
+  private static final class FileState {
+    private final long size;
+    private final long lastModified;
+    private final byte[] digest;
+
+    private FileState(final long size, final long lastModified, final byte[] digest) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.digest = digest;
+    }
+
+    private boolean isCurrent(final BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+    }
+  }
+
+  private static final class EntryState {
+    private final String path;
+    private final byte type;
+    private final FileState state;
+    private final Map<String,FileState> files;
+
+    private EntryState(final String path, final byte type, final FileState state, final Map<String,FileState> files) {
+      this.path = path;
+      this.type = type;
+      this.state = state;
+      this.files = files;
+    }
+  }
+
+  /**
+   * Returns the {@link ClasspathFingerprint} of the execution classpath of the specified {@link MavenProject} and
+   * {@link MojoExecution}, as provided by
+   * {@link MojoUtil#getExecutionClasspath(MavenSession,MavenProject,MojoExecution,org.apache.maven.plugin.descriptor.PluginDescriptor,org.apache.maven.artifact.handler.ArtifactHandler)},
+   * which is compared to and persisted in the {@linkplain MojoUtil#getStatusDir(MavenProject,MojoExecution) status directory} of the
+   * execution.
+   *
+   * @param session The {@link MavenSession}.
+   * @param project The {@link MavenProject}.
+   * @param execution The {@link MojoExecution}.
+   * @return The {@link ClasspathFingerprint} of the execution classpath of the specified {@link MavenProject} and
+   *         {@link MojoExecution}.
+   * @throws DependencyResolutionRequiredException If the specified {@link MavenProject} does not meet dependency resolution
+   *           requirements.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code session}, {@code project}, or {@code execution} is null.
+   */
+  public static ClasspathFingerprint compute(final MavenSession session, final MavenProject project, final MojoExecution execution) throws DependencyResolutionRequiredException, IOException {
+    final List<File> classpath = MojoUtil.getExecutionClasspath(session, project, execution, execution.getMojoDescriptor().getPluginDescriptor(), new DefaultArtifactHandler("jar"));
+    return compute(classpath, new File(MojoUtil.getStatusDir(project, execution), FILE_NAME));
+  }
+
+  /**
+   * Returns the {@link ClasspathFingerprint} of the specified classpath, which is compared to and persisted in the specified state
+   * file.
+   *
+   * @param classpath The classpath entries.
+   * @param stateFile The file in which the state of the fingerprint is persisted, or {@code null} to not persist the state.
+   * @return The {@link ClasspathFingerprint} of the specified classpath.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code classpath} or any member of {@code classpath} is null.
+   */
+  public static ClasspathFingerprint compute(final List<File> classpath, final File stateFile) throws IOException {
+    final State previous = stateFile == null ? null : read(stateFile);
+    final HashMap<String,EntryState> pathToPrevious = new HashMap<>();
+    if (previous != null)
+      for (final EntryState entry : previous.entries) // [A]
+        pathToPrevious.put(entry.path, entry);
+
+    final AtomicInteger hashed = new AtomicInteger();
+    final int len = classpath.size();
+    final List<EntryState> entries;
+    try {
+      entries = IntStream.range(0, len).parallel().mapToObj(i -> {
+        final File file = classpath.get(i);
+        final String path = file.getAbsolutePath();
+        try {
+          return fingerprint(path, file.toPath(), pathToPrevious.get(path), hashed);
+        }
+        catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }).collect(Collectors.toList());
+    }
+    catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    final MessageDigest digest = Digests.newDigest();
+    for (final EntryState entry : entries) { // [L]
+      Digests.update(digest, entry.path);
+      digest.update(entry.type);
+      digest.update(entry.state.digest);
+    }
+
+    final State state = new State(Digests.toHex(digest.digest()), entries.toArray(new EntryState[len]));
+    if (stateFile != null && (previous == null || !state.digest.equals(previous.digest) || hashed.get() > 0))
+      write(stateFile, state);
+
+    return new ClasspathFingerprint(state.digest, previous == null ? null : previous.digest, hashed.get());
+  }
+
+  private static EntryState fingerprint(final String path, final Path file, final EntryState previous, final AtomicInteger hashed) throws IOException {
+    final BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    }
+    catch (final IOException e) {
+      return new EntryState(path, MISSING, new FileState(-1, -1, new byte[0]), null);
+    }
+
+    if (attributes.isDirectory())
+      return fingerprintDirectory(path, file, previous != null && previous.type == DIRECTORY ? previous.files : null, hashed);
+
+    if (previous != null && previous.type == ARCHIVE && previous.state.isCurrent(attributes))
+      return previous;
+
+    hashed.incrementAndGet();
+    byte[] digest;
+    try (final ZipFile zipFile = new ZipFile(file.toFile())) {
+      final MessageDigest centralDirectory = Digests.newDigest();
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry entry = entries.nextElement();
+        Digests.update(centralDirectory, entry.getName());
+        Digests.update(centralDirectory, entry.getCrc());
+        Digests.update(centralDirectory, entry.getSize());
+      }
+
+      digest = centralDirectory.digest();
+    }
+    catch (final ZipException e) {
+      digest = Digests.digest(file);
+    }
+
+    return new EntryState(path, ARCHIVE, new FileState(attributes.size(), attributes.lastModifiedTime().toMillis(), digest), null);
+  }
+
+  private static EntryState fingerprintDirectory(final String path, final Path dir, final Map<String,FileState> previous, final AtomicInteger hashed) throws IOException {
+    final TreeMap<String,FileState> files = new TreeMap<>();
+    final ArrayList<Object[]> changed = new ArrayList<>();
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+        if (attributes.isRegularFile()) {
+          final String name = dir.relativize(file).toString().replace(File.separatorChar, '/');
+          final FileState state = previous == null ? null : previous.get(name);
+          if (state != null && state.isCurrent(attributes))
+            files.put(name, state);
+          else
+            changed.add(new Object[] {name, file, attributes});
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    if (changed.size() > 0) {
+      hashed.addAndGet(changed.size());
+      final List<FileState> states;
+      try {
+        states = changed.parallelStream().map(c -> {
+          final BasicFileAttributes attributes = (BasicFileAttributes)c[2];
+          try {
+            return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis(), Digests.digest((Path)c[1]));
+          }
+          catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }).collect(Collectors.toList());
+      }
+      catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+
+      for (int i = 0, i$ = changed.size(); i < i$; ++i) // [RA]
+        files.put((String)changed.get(i)[0], states.get(i));
+    }
+
+    final MessageDigest digest = Digests.newDigest();
+    for (final Map.Entry<String,FileState> entry : files.entrySet()) { // [S]
+      Digests.update(digest, entry.getKey());
+      digest.update(entry.getValue().digest);
+    }
+
+    return new EntryState(path, DIRECTORY, new FileState(-1, -1, digest.digest()), files);
+  }
+
+  private static final class State {
+    private final String digest;
+    private final EntryState[] entries;
+
+    private State(final String digest, final EntryState[] entries) {
+      this.digest = digest;
+      this.entries = entries;
+    }
+  }
+
+  private static void write(final DataOutputStream out, final FileState state) throws IOException {
+    out.writeLong(state.size);
+    out.writeLong(state.lastModified);
+    out.writeShort(state.digest.length);
+    out.write(state.digest);
+  }
+
+  private static FileState readFileState(final DataInputStream in) throws IOException {
+    final long size = in.readLong();
+    final long lastModified = in.readLong();
+    final byte[] digest = new byte[in.readUnsignedShort()];
+    in.readFully(digest);
+    return new FileState(size, lastModified, digest);
+  }
+
+  private static State read(final File stateFile) {
+    if (!stateFile.isFile())
+      return null;
+
+    try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile.toPath())))) {
+      if (in.readInt() != VERSION)
+        return null;
+
+      final String digest = in.readUTF();
+      final EntryState[] entries = new EntryState[in.readInt()];
+      for (int i = 0, i$ = entries.length; i < i$; ++i) { // [A]
+        final String path = in.readUTF();
+        final byte type = in.readByte();
+        final FileState state = readFileState(in);
+        HashMap<String,FileState> files = null;
+        if (type == DIRECTORY) {
+          final int size = in.readInt();
+          files = new HashMap<>(size * 2);
+          for (int j = 0; j < size; ++j)
+            files.put(in.readUTF(), readFileState(in));
+        }
+
+        entries[i] = new EntryState(path, type, state, files);
+      }
+
+      return new State(digest, entries);
+    }
+    catch (final IOException e) {
+      return null;
+    }
+  }
+
+  private static void write(final File stateFile, final State state) throws IOException {
+    final Path dir = stateFile.getAbsoluteFile().getParentFile().toPath();
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, stateFile.getName(), ".tmp");
+    try {
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(VERSION);
+        out.writeUTF(state.digest);
+        out.writeInt(state.entries.length);
+        for (final EntryState entry : state.entries) { // [A]
+          out.writeUTF(entry.path);
+          out.writeByte(entry.type);
+          write(out, entry.state);
+          if (entry.type == DIRECTORY) {
+            out.writeInt(entry.files.size());
+            for (final Map.Entry<String,FileState> file : entry.files.entrySet()) { // [S]
+              out.writeUTF(file.getKey());
+              write(out, file.getValue());
+            }
+          }
+        }
+      }
+
+      Files.move(temp, stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private final String digest;
+  private final String previousDigest;
+  private final int hashedCount;
+
+  private ClasspathFingerprint(final String digest, final String previousDigest, final int hashedCount) {
+    this.digest = digest;
+    this.previousDigest = previousDigest;
+    this.hashedCount = hashedCount;
+  }
+
+  /**
+   * Returns the hexadecimal SHA-256 digest of the classpath.
+   *
+   * @return The hexadecimal SHA-256 digest of the classpath.
+   */
+  public String getDigest() {
+    return digest;
+  }
+
+  /**
+   * Returns the hexadecimal SHA-256 digest of the classpath as persisted by the previous computation, or {@code null} if no state was
+   * persisted.
+   *
+   * @return The hexadecimal SHA-256 digest of the classpath as persisted by the previous computation, or {@code null} if no state was
+   *         persisted.
+   */
+  public String getPreviousDigest() {
+    return previousDigest;
+  }
+
+  /**
+   * Returns whether the classpath has changed since the previous computation, which is the case if no state was persisted.
+   *
+   * @return Whether the classpath has changed since the previous computation.
+   */
+  public boolean isChanged() {
+    return !digest.equals(previousDigest);
+  }
+
+  /**
+   * Returns the number of archives and directory files that were hashed by this computation, as opposed to those whose state was
+   * reused from the previous computation.
+   *
+   * @return The number of archives and directory files that were hashed by this computation.
+   */
+  public int getHashedCount() {
+    return hashedCount;
+  }
+
+  @Override
+  public String toString() {
+    return digest;
+  }
+}
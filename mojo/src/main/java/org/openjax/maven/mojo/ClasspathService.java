@@ -0,0 +1,280 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.artifact.handler.ArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.repository.ComponentDependency;
+
+/**
+ * A {@link MavenSession}-scoped service that memoizes the classpaths computed by {@link MojoUtil}. Each classpath is computed once per
+ * project, kind and test phase, and each execution classpath once per plugin as well, with its entries normalized to absolute paths
+ * and deduplicated in order of first occurrence, and is shared as an unmodifiable list. A memoized classpath is recomputed if the
+ * coordinates of the dependencies or resolved artifacts of its project, or of the dependencies of its plugin, have changed since it
+ * was computed.
+ */
+final class ClasspathService implements AutoCloseable {
+  private enum Kind {
+    DEPENDENCIES,
+    EXECUTION,
+    PLUGIN
+  }
+
+  private static final class Key {
+    private final Object owner;
+    private final Object qualifier;
+    private final Kind kind;
+    private final boolean testPhase;
+
+    private Key(final Object owner, final Object qualifier, final Kind kind, final boolean testPhase) {
+      this.owner = owner;
+      this.qualifier = qualifier;
+      this.kind = kind;
+      this.testPhase = testPhase;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof Key))
+        return false;
+
+      final Key that = (Key)obj;
+      return owner == that.owner && qualifier == that.qualifier && kind == that.kind && testPhase == that.testPhase;
+    }
+
+    @Override
+    public int hashCode() {
+      return ((31 * System.identityHashCode(owner) + System.identityHashCode(qualifier)) * 31 + kind.hashCode()) * 2 + (testPhase ? 1 : 0);
+    }
+  }
+
+  private static final class Entry {
+    private final long stamp;
+    private final List<String> paths;
+    private volatile List<File> files;
+    private volatile URL[] urls;
+
+    private Entry(final long stamp, final List<String> paths) {
+      this.stamp = stamp;
+      this.paths = paths;
+    }
+  }
+
+  /**
+   * Returns the {@link ClasspathService} in the scope of the specified {@link MavenSession}.
+   *
+   * @param session The {@link MavenSession}.
+   * @return The {@link ClasspathService} in the scope of the specified {@link MavenSession}.
+   * @throws NullPointerException If {@code session} is null.
+   */
+  static ClasspathService get(final MavenSession session) {
+    return SessionScope.get(session, ClasspathService.class, ClasspathService::new);
+  }
+
+  private static String getCoordinates(final Object member) {
+    if (member instanceof Dependency) {
+      final Dependency dependency = (Dependency)member;
+      return dependency.getManagementKey() + ":" + dependency.getVersion() + ":" + dependency.getScope() + ":" + dependency.getSystemPath();
+    }
+
+    if (member instanceof Artifact) {
+      final Artifact artifact = (Artifact)member;
+      return artifact.getId() + ":" + artifact.getScope() + ":" + artifact.getFile();
+    }
+
+    if (member instanceof ComponentDependency) {
+      final ComponentDependency dependency = (ComponentDependency)member;
+      return dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getType() + ":" + dependency.getVersion();
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns a stamp of the coordinates of the members of the specified collection, which changes if a member is added, removed or
+   * replaced, or if the coordinates of a {@link Dependency}, {@link Artifact} or {@link ComponentDependency} member are changed in
+   * place. Members of other types are stamped by their identity, so changes made to them in place are not seen.
+   */
+  private static long stamp(final Collection<?> collection) {
+    if (collection == null)
+      return 0;
+
+    long stamp = collection.size();
+    for (final Object member : collection) { // [C]
+      final String coordinates = getCoordinates(member);
+      stamp = 31 * stamp + (coordinates != null ? coordinates.hashCode() : System.identityHashCode(member));
+    }
+
+    return stamp;
+  }
+
+  private static long stamp(final MavenProject project) {
+    final MavenProject executionProject = project.getExecutionProject();
+    return 31 * stamp(executionProject != null ? executionProject.getDependencies() : project.getDependencies()) + stamp(project.getArtifacts());
+  }
+
+  private static List<String> normalize(final Collection<String> paths) {
+    final LinkedHashSet<String> normalized = new LinkedHashSet<>();
+    for (final String path : paths) // [C]
+      normalized.add(new File(path).toPath().toAbsolutePath().normalize().toString());
+
+    return Collections.unmodifiableList(Arrays.asList(normalized.toArray(new String[normalized.size()])));
+  }
+
+  private final ConcurrentHashMap<Key,Entry> keyToEntry = new ConcurrentHashMap<>();
+
+  private Entry getProjectDependencyEntry(final MavenProject project, final ArtifactRepository localRepository) {
+    final Key key = new Key(project, null, Kind.DEPENDENCIES, false);
+    final long stamp = stamp(project);
+    Entry entry = keyToEntry.get(key);
+    if (entry == null || entry.stamp != stamp)
+      keyToEntry.put(key, entry = new Entry(stamp, normalize(Arrays.asList(MojoUtil.getProjectDependencyPaths(project, localRepository)))));
+
+    return entry;
+  }
+
+  /**
+   * Returns the memoized, unmodifiable and deduplicated list of dependency paths of the specified {@link MavenProject}.
+   *
+   * @param project The {@link MavenProject}.
+   * @param localRepository The local {@link ArtifactRepository}.
+   * @return The memoized list of dependency paths of the specified {@link MavenProject}.
+   * @throws NullPointerException If {@code project} or {@code localRepository} is null.
+   * @see MojoUtil#getProjectDependencyPaths(MavenProject,ArtifactRepository)
+   */
+  List<String> getProjectDependencyPaths(final MavenProject project, final ArtifactRepository localRepository) {
+    return getProjectDependencyEntry(project, localRepository).paths;
+  }
+
+  /**
+   * Returns the memoized {@code file:} {@link URL}s of the dependency paths of the specified {@link MavenProject}. The returned array
+   * is shared, and must not be modified.
+   *
+   * @param project The {@link MavenProject}.
+   * @param localRepository The local {@link ArtifactRepository}.
+   * @return The memoized {@code file:} {@link URL}s of the dependency paths of the specified {@link MavenProject}.
+   * @throws NullPointerException If {@code project} or {@code localRepository} is null.
+   */
+  URL[] getProjectDependencyURLs(final MavenProject project, final ArtifactRepository localRepository) {
+    final Entry entry = getProjectDependencyEntry(project, localRepository);
+    URL[] urls = entry.urls;
+    if (urls == null) {
+      final List<String> paths = entry.paths;
+      urls = new URL[paths.size()];
+      for (int i = 0, i$ = urls.length; i < i$; ++i) { // [A]
+        try {
+          urls[i] = new URL("file", "", paths.get(i));
+        }
+        catch (final MalformedURLException e) {
+          throw new IllegalArgumentException(e);
+        }
+      }
+
+      entry.urls = urls;
+    }
+
+    return urls;
+  }
+
+  /**
+   * Returns the memoized, unmodifiable and deduplicated classpath of dependencies of the specified {@link PluginDescriptor}.
+   *
+   * @param descriptor The {@link PluginDescriptor}.
+   * @param localRepository The local {@link ArtifactRepository}.
+   * @param handler The {@link ArtifactHandler}.
+   * @return The memoized classpath of dependencies of the specified {@link PluginDescriptor}.
+   * @throws NullPointerException If {@code descriptor}, {@code localRepository}, or {@code handler} is null.
+   * @see MojoUtil#getPluginDependencyClassPath(PluginDescriptor,ArtifactRepository,ArtifactHandler)
+   */
+  List<String> getPluginDependencyClassPath(final PluginDescriptor descriptor, final ArtifactRepository localRepository, final ArtifactHandler handler) {
+    final Key key = new Key(descriptor, null, Kind.PLUGIN, false);
+    final long stamp = stamp(descriptor.getDependencies());
+    Entry entry = keyToEntry.get(key);
+    if (entry == null || entry.stamp != stamp)
+      keyToEntry.put(key, entry = new Entry(stamp, normalize(MojoUtil.getPluginDependencyClassPath(descriptor, localRepository, handler))));
+
+    return entry.paths;
+  }
+
+  /**
+   * Returns the memoized, unmodifiable and deduplicated execution classpath of the specified {@link MavenProject} and
+   * {@link MojoExecution}.
+   *
+   * @param project The {@link MavenProject}.
+   * @param execution The {@link MojoExecution}.
+   * @param descriptor The {@link PluginDescriptor}.
+   * @param localRepository The local {@link ArtifactRepository}.
+   * @param handler The {@link ArtifactHandler}.
+   * @return The memoized execution classpath of the specified {@link MavenProject} and {@link MojoExecution}.
+   * @throws DependencyResolutionRequiredException If the specified {@link MavenProject} does not meet dependency resolution
+   *           requirements.
+   * @throws NullPointerException If {@code project}, {@code execution}, {@code descriptor}, {@code localRepository} or
+   *           {@code handler} is null.
+   * @see MojoUtil#getExecutionClasspath(MavenProject,MojoExecution,PluginDescriptor,ArtifactRepository,ArtifactHandler)
+   */
+  List<File> getExecutionClasspath(final MavenProject project, final MojoExecution execution, final PluginDescriptor descriptor, final ArtifactRepository localRepository, final ArtifactHandler handler) throws DependencyResolutionRequiredException {
+    final boolean testPhase = MojoUtil.isInTestPhase(execution);
+    final Key key = new Key(project, descriptor, Kind.EXECUTION, testPhase);
+    final long stamp = 31 * stamp(project) + stamp(descriptor.getDependencies());
+    Entry entry = keyToEntry.get(key);
+    if (entry == null || entry.stamp != stamp) {
+      final File[] classpath = MojoUtil.getExecutionClasspath(project, execution, descriptor, localRepository, handler);
+      final String[] paths = new String[classpath.length];
+      for (int i = 0, i$ = classpath.length; i < i$; ++i) // [A]
+        paths[i] = classpath[i].getPath();
+
+      keyToEntry.put(key, entry = new Entry(stamp, normalize(Arrays.asList(paths))));
+    }
+
+    List<File> files = entry.files;
+    if (files == null) {
+      final List<String> paths = entry.paths;
+      final File[] array = new File[paths.size()];
+      for (int i = 0, i$ = array.length; i < i$; ++i) // [A]
+        array[i] = new File(paths.get(i));
+
+      entry.files = files = Collections.unmodifiableList(Arrays.asList(array));
+    }
+
+    return files;
+  }
+
+  @Override
+  public void close() {
+    keyToEntry.clear();
+  }
+}
@@ -47,30 +47,50 @@ public abstract class DeferredLog implements Log {
     DEBUG() {
       @Override
       public void flush(final Log log, final CharSequence content, final Throwable error) {
-        log.debug(content, error);
+        if (error == null)
+          log.debug(content);
+        else if (content == null)
+          log.debug(error);
+        else
+          log.debug(content, error);
       }
     },
     INFO() {
       @Override
       public void flush(final Log log, final CharSequence content, final Throwable error) {
-        log.info(content, error);
+        if (error == null)
+          log.info(content);
+        else if (content == null)
+          log.info(error);
+        else
+          log.info(content, error);
       }
     },
     WARN() {
       @Override
       public void flush(final Log log, final CharSequence content, final Throwable error) {
-        log.warn(content, error);
+        if (error == null)
+          log.warn(content);
+        else if (content == null)
+          log.warn(error);
+        else
+          log.warn(content, error);
       }
     },
     ERROR() {
       @Override
       public void flush(final Log log, final CharSequence content, final Throwable error) {
-        log.error(content, error);
+        if (error == null)
+          log.error(content);
+        else if (content == null)
+          log.error(error);
+        else
+          log.error(content, error);
       }
     };
 
     /**
-     * Flushes the provided {@code content} and {@code error} to the specified {@link Log}.
+     * Flushes the provided {@code content} and {@code error} to the specified {@link Log}, either of which may be null.
      *
      * @param log The {@link Log} to which the {@code content} and {@code error} are to be flushed.
      * @param content The {@link CharSequence} to be flushed.
@@ -0,0 +1,135 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.libj.lang.Hexadecimal;
+
+/**
+ * Utility functions for the SHA-256 digests with which build state is fingerprinted.
+ */
+final class Digests {
+  private static final int BUFFER_SIZE = 65536;
+  private static final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+  /**
+   * Returns a new SHA-256 {@link MessageDigest}.
+   *
+   * @return A new SHA-256 {@link MessageDigest}.
+   */
+  static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the length-prefixed UTF-8 bytes of the specified string, or a marker if the
+   * string is null.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param value The string.
+   * @return The specified {@link MessageDigest}.
+   * @throws NullPointerException If {@code digest} is null.
+   */
+  static MessageDigest update(final MessageDigest digest, final String value) {
+    if (value == null)
+      return update(digest, -1L);
+
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    update(digest, bytes.length);
+    digest.update(bytes);
+    return digest;
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the big-endian bytes of the specified {@code long}.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param value The {@code long}.
+   * @return The specified {@link MessageDigest}.
+   * @throws NullPointerException If {@code digest} is null.
+   */
+  static MessageDigest update(final MessageDigest digest, final long value) {
+    for (int i = 56; i >= 0; i -= 8)
+      digest.update((byte)(value >>> i));
+
+    return digest;
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the remaining content of the specified {@link FileChannel}, which is read into a
+   * direct buffer that is pooled per thread.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param channel The {@link FileChannel}.
+   * @return The specified {@link MessageDigest}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code digest} or {@code channel} is null.
+   */
+  static MessageDigest update(final MessageDigest digest, final FileChannel channel) throws IOException {
+    final ByteBuffer buffer = buffers.get();
+    buffer.clear();
+    while (channel.read(buffer) != -1) {
+      buffer.flip();
+      digest.update(buffer);
+      buffer.clear();
+    }
+
+    return digest;
+  }
+
+  /**
+   * Returns the SHA-256 digest of the content of the specified file, which is read into a direct buffer that is pooled per thread.
+   * The file is not mapped into memory, so that it can be replaced or deleted immediately after, including on Windows.
+   *
+   * @param file The file.
+   * @return The SHA-256 digest of the content of the specified file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  static byte[] digest(final Path file) throws IOException {
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return update(newDigest(), channel).digest();
+    }
+  }
+
+  /**
+   * Returns the hexadecimal encoding of the specified digest.
+   *
+   * @param digest The digest.
+   * @return The hexadecimal encoding of the specified digest.
+   * @throws NullPointerException If {@code digest} is null.
+   */
+  static String toHex(final byte[] digest) {
+    return Hexadecimal.encode(digest);
+  }
+
+  private Digests() {
+  }
+}
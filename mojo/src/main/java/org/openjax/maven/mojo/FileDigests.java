@@ -0,0 +1,192 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * A {@link MavenSession}-scoped memo of the SHA-256 digests of the content of files. A digest is memoized for the size and last
+ * modified time of its file, so that the executions of a session hash each unchanged file only once. The digests of a set of files
+ * are computed in parallel on a bounded {@link ForkJoinPool}. Files of at least {@value #MAP_THRESHOLD} bytes are mapped into memory
+ * in windows of up to {@value #MAP_WINDOW} bytes. Since a mapped file cannot be replaced or deleted on Windows until its mapping is
+ * garbage collected, only the files that are inputs of the build are digested with this class, and {@link Digests#digest(Path)}
+ * should be used for files that may be rewritten.
+ */
+final class FileDigests implements AutoCloseable {
+  private static final long MAP_THRESHOLD = 1 << 20;
+  private static final long MAP_WINDOW = 1 << 26;
+
+  private static final class Pool {
+    private static final ForkJoinPool instance = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  private static final class Entry {
+    private final long size;
+    private final long lastModified;
+    private final byte[] digest;
+
+    private Entry(final long size, final long lastModified, final byte[] digest) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.digest = digest;
+    }
+  }
+
+  private final class DigestAction extends RecursiveAction {
+    private static final long serialVersionUID = 3802545512463014757L;
+
+    private final URI[] uris;
+    private final Object[] outputs;
+    private final int from;
+    private final int to;
+
+    private DigestAction(final URI[] uris, final Object[] outputs, final int from, final int to) {
+      this.uris = uris;
+      this.outputs = outputs;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        try {
+          outputs[from] = digest(Paths.get(uris[from]));
+        }
+        catch (final IOException e) {
+          outputs[from] = e;
+        }
+      }
+      else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new DigestAction(uris, outputs, from, mid), new DigestAction(uris, outputs, mid, to));
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link FileDigests} in the scope of the specified {@link MavenSession}.
+   *
+   * @param session The {@link MavenSession}.
+   * @return The {@link FileDigests} in the scope of the specified {@link MavenSession}.
+   * @throws NullPointerException If {@code session} is null.
+   */
+  static FileDigests get(final MavenSession session) {
+    return SessionScope.get(session, FileDigests.class, FileDigests::new);
+  }
+
+  private static byte[] compute(final Path file) throws IOException {
+    final MessageDigest digest = Digests.newDigest();
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < MAP_THRESHOLD)
+        return Digests.update(digest, channel).digest();
+
+      for (long position = 0; position < size; position += MAP_WINDOW)
+        digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW, size - position)));
+    }
+
+    return digest.digest();
+  }
+
+  private final ConcurrentHashMap<Path,Entry> pathToEntry = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the SHA-256 digest of the content of the specified file, which is computed if the file has not been digested at its
+   * current size and last modified time.
+   *
+   * @param file The file.
+   * @return The SHA-256 digest of the content of the specified file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  byte[] digest(final Path file) throws IOException {
+    final Path path = file.toAbsolutePath();
+    final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+    final long size = attrs.size();
+    final long lastModified = attrs.lastModifiedTime().toMillis();
+    final Entry entry = pathToEntry.get(path);
+    if (entry != null && entry.size == size && entry.lastModified == lastModified)
+      return entry.digest;
+
+    final byte[] digest = compute(path);
+    pathToEntry.put(path, new Entry(size, lastModified, digest));
+    return digest;
+  }
+
+  /**
+   * Returns an unmodifiable map of the {@link URI} of each specified file to the SHA-256 digest of its content, in the iteration order
+   * of {@code uris}. The digests that are not memoized are computed in parallel, and if more than one file could not be read, an
+   * {@link IOException} is thrown with each failure added as a suppressed exception, in the iteration order of {@code uris}.
+   *
+   * @param uris The {@link URI}s of the files.
+   * @return An unmodifiable map of the {@link URI} of each specified file to the SHA-256 digest of its content.
+   * @throws IOException If a file could not be read.
+   * @throws NullPointerException If {@code uris} or any member of {@code uris} is null.
+   */
+  Map<URI,byte[]> digest(final Collection<URI> uris) throws IOException {
+    final URI[] array = uris.toArray(new URI[uris.size()]);
+    final int len = array.length;
+    if (len == 0)
+      return Collections.emptyMap();
+
+    final Object[] outputs = new Object[len];
+    Pool.instance.invoke(new DigestAction(array, outputs, 0, len));
+
+    IOException exception = null;
+    final LinkedHashMap<URI,byte[]> digests = new LinkedHashMap<>(len * 2);
+    for (int i = 0; i < len; ++i) { // [A]
+      final Object output = outputs[i];
+      if (output instanceof IOException) {
+        if (exception == null)
+          exception = (IOException)output;
+        else
+          exception.addSuppressed((IOException)output);
+      }
+      else {
+        digests.put(array[i], (byte[])output);
+      }
+    }
+
+    if (exception != null)
+      throw exception;
+
+    return Collections.unmodifiableMap(digests);
+  }
+
+  @Override
+  public void close() {
+    pathToEntry.clear();
+  }
+}
@@ -0,0 +1,217 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An Ant-style glob of file paths, such as {@code src/main/schemas/**}{@code /*.xsd}, in which {@code **} matches zero or more
+ * directories, {@code *} matches zero or more characters within a path segment, and {@code ?} matches one character within a path
+ * segment. A pattern that ends with a separator matches all files beneath the directory.
+ * <p>
+ * Globs are expanded with a single walk of each distinct root directory (the longest leading path that contains no wildcards),
+ * during which the subtrees that cannot contain a match are pruned, and the file attributes that are provided by the walk are used
+ * instead of additional file system calls.
+ */
+final class FileGlob {
+  private static final Pattern SEPARATOR = Pattern.compile("[/\\\\]+");
+
+  /**
+   * Returns whether the specified path contains a wildcard.
+   *
+   * @param path The path.
+   * @return Whether the specified path contains a wildcard.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  static boolean isGlob(final String path) {
+    return path.indexOf('*') > -1 || path.indexOf('?') > -1;
+  }
+
+  private static Pattern compileSegment(final String segment) {
+    final StringBuilder regex = new StringBuilder();
+    int start = 0;
+    for (int i = 0, i$ = segment.length(); i < i$; ++i) {
+      final char ch = segment.charAt(i);
+      if (ch == '*' || ch == '?') {
+        if (start < i)
+          regex.append(Pattern.quote(segment.substring(start, i)));
+
+        regex.append(ch == '*' ? ".*" : ".");
+        start = i + 1;
+      }
+    }
+
+    if (start < segment.length())
+      regex.append(Pattern.quote(segment.substring(start)));
+
+    return Pattern.compile(regex.toString());
+  }
+
+  /**
+   * Expands the specified globs, and returns a map of each glob to the sorted list of regular files that it matches. Globs that share
+   * a root directory are expanded with a single walk of the directory.
+   *
+   * @param globs The globs, which are resolved against the working directory if relative.
+   * @return A map of each glob to the sorted list of regular files that it matches.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code globs} or any member of {@code globs} is null.
+   */
+  static Map<String,List<File>> expand(final Collection<String> globs) throws IOException {
+    final LinkedHashMap<Path,ArrayList<FileGlob>> rootToGlobs = new LinkedHashMap<>();
+    final LinkedHashMap<String,List<File>> globToFiles = new LinkedHashMap<>();
+    for (final String glob : globs) { // [C]
+      if (globToFiles.containsKey(glob))
+        continue;
+
+      final FileGlob fileGlob = new FileGlob(glob);
+      globToFiles.put(glob, fileGlob.files);
+      rootToGlobs.computeIfAbsent(fileGlob.root, k -> new ArrayList<>()).add(fileGlob);
+    }
+
+    final HashMap<Path,Boolean> isDirectory = new HashMap<>();
+    for (final Map.Entry<Path,ArrayList<FileGlob>> entry : rootToGlobs.entrySet()) { // [S]
+      final Path root = entry.getKey();
+      if (isDirectory.computeIfAbsent(root, Files::isDirectory))
+        walk(root, entry.getValue());
+    }
+
+    for (final List<File> files : globToFiles.values()) // [C]
+      Collections.sort(files);
+
+    return globToFiles;
+  }
+
+  private static void walk(final Path root, final ArrayList<FileGlob> fileGlobs) throws IOException {
+    final int size = fileGlobs.size();
+    Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+        if (dir.equals(root))
+          return FileVisitResult.CONTINUE;
+
+        final Path relative = root.relativize(dir);
+        for (int i = 0; i < size; ++i) // [RA]
+          if (fileGlobs.get(i).canContain(relative, 0, 0))
+            return FileVisitResult.CONTINUE;
+
+        return FileVisitResult.SKIP_SUBTREE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+        if (attrs.isRegularFile() || attrs.isSymbolicLink() && Files.isRegularFile(file)) {
+          final Path relative = root.relativize(file);
+          for (int i = 0; i < size; ++i) { // [RA]
+            final FileGlob fileGlob = fileGlobs.get(i);
+            if (fileGlob.matches(relative, 0, 0))
+              fileGlob.files.add(file.toFile());
+          }
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private final Path root;
+  private final Pattern[] segments;
+  private final ArrayList<File> files = new ArrayList<>();
+
+  private FileGlob(final String glob) {
+    int wildcard = glob.indexOf('*');
+    final int question = glob.indexOf('?');
+    if (wildcard < 0 || question > -1 && question < wildcard)
+      wildcard = question;
+
+    final int separator = Math.max(glob.lastIndexOf('/', wildcard), glob.lastIndexOf('\\', wildcard));
+    this.root = Paths.get(glob.substring(0, separator + 1)).toAbsolutePath().normalize();
+
+    final String[] names = SEPARATOR.split(glob.substring(separator + 1), -1);
+    final ArrayList<Pattern> segments = new ArrayList<>();
+    for (int i = 0; i < names.length; ++i) { // [A]
+      final String name = names[i];
+      if ("**".equals(name)) {
+        if (segments.size() == 0 || segments.get(segments.size() - 1) != null)
+          segments.add(null);
+      }
+      else if (name.length() > 0) {
+        segments.add(compileSegment(name));
+      }
+      else if (i == names.length - 1) {
+        segments.add(null);
+      }
+    }
+
+    if (segments.size() == 0 || segments.get(segments.size() - 1) == null)
+      segments.add(compileSegment("*"));
+
+    this.segments = segments.toArray(new Pattern[segments.size()]);
+  }
+
+  /**
+   * Returns whether a file beneath the specified directory (relative to {@link #root}) can match this glob, starting at the specified
+   * pattern segment and directory name index.
+   */
+  private boolean canContain(final Path dir, final int segment, final int name) {
+    if (name == dir.getNameCount())
+      return segment < segments.length;
+
+    if (segment == segments.length)
+      return false;
+
+    final Pattern pattern = segments[segment];
+    if (pattern == null)
+      return canContain(dir, segment + 1, name) || canContain(dir, segment, name + 1);
+
+    return pattern.matcher(dir.getName(name).toString()).matches() && canContain(dir, segment + 1, name + 1);
+  }
+
+  /**
+   * Returns whether the specified file (relative to {@link #root}) matches this glob, starting at the specified pattern segment and
+   * file name index.
+   */
+  private boolean matches(final Path file, final int segment, final int name) {
+    if (segment == segments.length)
+      return name == file.getNameCount();
+
+    final Pattern pattern = segments[segment];
+    if (pattern == null)
+      return matches(file, segment + 1, name) || name < file.getNameCount() && matches(file, segment, name + 1);
+
+    return name < file.getNameCount() && pattern.matcher(file.getName(name).toString()).matches() && matches(file, segment + 1, name + 1);
+  }
+}
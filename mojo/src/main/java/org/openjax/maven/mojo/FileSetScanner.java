@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A scanner of the files of a {@link PatternSetMojo}, which walks resource directories and their subdirectories concurrently on a
+ * {@link ForkJoinPool}. The results are merged in the order of a sequential depth-first walk with
+ * {@link Files#walkFileTree(Path,java.nio.file.FileVisitor)}: each directory lists its entries in {@link DirectoryStream} order,
+ * reads their attributes without following symbolic links, and skips subdirectories as per {@link PatternSetMatcher#canSkip(String)},
+ * so the scan produces exactly the same files in exactly the same order as the sequential walk.
+ */
+final class FileSetScanner {
+  private static final class Scan extends RecursiveTask<List<URI>> {
+    private static final long serialVersionUID = -1651374066389405613L;
+
+    private final Path dir;
+    private final String relative;
+    private final String basedir;
+    private final PatternSetMatcher matcher;
+
+    private Scan(final Path dir, final String relative, final String basedir, final PatternSetMatcher matcher) {
+      this.dir = dir;
+      this.relative = relative;
+      this.basedir = basedir;
+      this.matcher = matcher;
+    }
+
+    private URI match(final Path file, final BasicFileAttributes attrs, final String relative) {
+      if (attrs.isRegularFile() || attrs.isSymbolicLink() && Files.isRegularFile(file)) {
+        if (matcher.matches(relative != null ? relative : file.toFile().getAbsolutePath().substring(basedir.length() + 1)))
+          return file.toUri();
+      }
+
+      return null;
+    }
+
+    @Override
+    protected List<URI> compute() {
+      try {
+        // Each member is the URI of a matching file, or the Scan of a subdirectory that is joined in its place
+        final ArrayList<Object> members = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+          for (final Path entry : stream) { // [I]
+            final BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            final String name = relative == null ? null : relative + entry.getFileName();
+            if (attrs.isDirectory()) {
+              final String subdir = name == null ? null : name + File.separator;
+              if (subdir == null || !matcher.canSkip(subdir)) {
+                final Scan scan = new Scan(entry, subdir, basedir, matcher);
+                scan.fork();
+                members.add(scan);
+              }
+            }
+            else {
+              final URI uri = match(entry, attrs, name);
+              if (uri != null)
+                members.add(uri);
+            }
+          }
+        }
+
+        final ArrayList<URI> uris = new ArrayList<>();
+        for (int i = 0, i$ = members.size(); i < i$; ++i) { // [RA]
+          final Object member = members.get(i);
+          if (member instanceof Scan)
+            uris.addAll(((Scan)member).join());
+          else
+            uris.add((URI)member);
+        }
+
+        return uris;
+      }
+      catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Scans the specified directories concurrently with the specified parallelism, and adds the {@link URI} of each matching file to
+   * {@code uris}, in the order of a sequential walk of each directory in turn.
+   *
+   * @param dirs The directories.
+   * @param basedir The absolute path of the base directory, relative to which files are matched.
+   * @param matcher The {@link PatternSetMatcher}.
+   * @param parallelism The parallelism level.
+   * @param uris The collection to which the {@link URI} of each matching file is added.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code parallelism} is not positive.
+   * @throws NullPointerException If {@code dirs}, any member of {@code dirs}, {@code basedir}, {@code matcher}, or {@code uris} is
+   *           null.
+   */
+  static void scan(final List<File> dirs, final String basedir, final PatternSetMatcher matcher, final int parallelism, final Collection<URI> uris) throws IOException {
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      final ArrayList<Object> roots = new ArrayList<>(dirs.size());
+      for (int i = 0, i$ = dirs.size(); i < i$; ++i) { // [RA]
+        final File dir = dirs.get(i);
+        final Path path = dir.toPath();
+        final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        final String relative = PatternSetMojo.getRelativePath(dir, basedir);
+        final Scan scan = new Scan(path, relative, basedir, matcher);
+        if (attrs.isDirectory())
+          roots.add(pool.submit(scan));
+        else
+          roots.add(scan.match(path, attrs, null));
+      }
+
+      for (int i = 0, i$ = roots.size(); i < i$; ++i) { // [RA]
+        final Object root = roots.get(i);
+        if (root instanceof Scan)
+          uris.addAll(((Scan)root).join());
+        else if (root != null)
+          uris.add((URI)root);
+      }
+    }
+    catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private FileSetScanner() {
+  }
+}
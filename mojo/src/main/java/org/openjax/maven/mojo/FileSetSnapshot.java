@@ -0,0 +1,242 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A snapshot of the files matched by a {@link PatternSetMojo} execution, which records the size, last modified time and, optionally,
+ * the SHA-256 digest of each file, and is persisted in the status directory of the execution. A snapshot is identified by a key that
+ * digests the patterns and configuration of the execution, so that a change to either invalidates the persisted snapshot.
+ */
+final class FileSetSnapshot {
+  private static final int VERSION = 1;
+
+  /**
+   * The difference between a snapshot and the snapshot that preceded it.
+   */
+  static final class Diff {
+    private final Set<URI> added;
+    private final Set<URI> modified;
+    private final Set<URI> removed;
+    private final Set<URI> unchanged;
+    private final boolean incremental;
+
+    Diff(final LinkedHashSet<URI> added, final LinkedHashSet<URI> modified, final LinkedHashSet<URI> removed, final LinkedHashSet<URI> unchanged, final boolean incremental) {
+      this.added = Collections.unmodifiableSet(added);
+      this.modified = Collections.unmodifiableSet(modified);
+      this.removed = Collections.unmodifiableSet(removed);
+      this.unchanged = Collections.unmodifiableSet(unchanged);
+      this.incremental = incremental;
+    }
+
+    Set<URI> getAdded() {
+      return added;
+    }
+
+    Set<URI> getModified() {
+      return modified;
+    }
+
+    Set<URI> getRemoved() {
+      return removed;
+    }
+
+    Set<URI> getUnchanged() {
+      return unchanged;
+    }
+
+    boolean isIncremental() {
+      return incremental;
+    }
+  }
+
+  private static final class Entry {
+    private final long size;
+    private final long lastModified;
+    private final byte[] digest;
+
+    private Entry(final long size, final long lastModified, final byte[] digest) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.digest = digest;
+    }
+  }
+
+  /**
+   * Returns the snapshot persisted in the specified file, or {@code null} if the file does not exist, cannot be read, or was
+   * persisted with a different key.
+   *
+   * @param file The file.
+   * @param key The key of the snapshot.
+   * @return The snapshot persisted in the specified file, or {@code null} if the file does not exist, cannot be read, or was persisted
+   *         with a different key.
+   * @throws NullPointerException If {@code file} or {@code key} is null.
+   */
+  static FileSetSnapshot read(final File file, final String key) {
+    try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != VERSION || !key.equals(in.readUTF()))
+        return null;
+
+      final int size = in.readInt();
+      final LinkedHashMap<URI,Entry> entries = new LinkedHashMap<>(size * 2);
+      for (int i = 0; i < size; ++i) {
+        final URI uri = URI.create(in.readUTF());
+        final long length = in.readLong();
+        final long lastModified = in.readLong();
+        final int digestLength = in.readUnsignedByte();
+        final byte[] digest = digestLength == 0 ? null : new byte[digestLength];
+        if (digest != null)
+          in.readFully(digest);
+
+        entries.put(uri, new Entry(length, lastModified, digest));
+      }
+
+      return new FileSetSnapshot(key, entries);
+    }
+    catch (final IOException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns a new snapshot of the specified files. If {@code digest} is set, the SHA-256 digest of each file is recorded, which is
+   * reused from the {@code previous} snapshot for files whose size and last modified time are unchanged.
+   *
+   * @param uris The {@link URI}s of the files.
+   * @param key The key of the snapshot.
+   * @param digest Whether to record the SHA-256 digest of each file.
+   * @param previous The previous snapshot, or {@code null} if there is none.
+   * @return A new snapshot of the specified files.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code uris}, any member of {@code uris}, or {@code key} is null.
+   */
+  static FileSetSnapshot of(final Collection<URI> uris, final String key, final boolean digest, final FileSetSnapshot previous) throws IOException {
+    final LinkedHashMap<URI,Entry> entries = new LinkedHashMap<>(uris.size() * 2);
+    for (final URI uri : uris) { // [C]
+      final Path path = Paths.get(uri);
+      final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+      final long size = attrs.size();
+      final long lastModified = attrs.lastModifiedTime().toMillis();
+      byte[] bytes = null;
+      if (digest) {
+        final Entry entry = previous == null ? null : previous.entries.get(uri);
+        bytes = entry != null && entry.digest != null && entry.size == size && entry.lastModified == lastModified ? entry.digest : Digests.digest(path);
+      }
+
+      entries.put(uri, new Entry(size, lastModified, bytes));
+    }
+
+    return new FileSetSnapshot(key, entries);
+  }
+
+  private final String key;
+  private final LinkedHashMap<URI,Entry> entries;
+
+  private FileSetSnapshot(final String key, final LinkedHashMap<URI,Entry> entries) {
+    this.key = key;
+    this.entries = entries;
+  }
+
+  /**
+   * Returns the {@link Diff} of this snapshot from the specified previous snapshot. A file is modified if its digest differs, or, if
+   * digests are not recorded, if its size or last modified time differs. If {@code previous} is null, all files are added.
+   *
+   * @param previous The previous snapshot, or {@code null} if there is none.
+   * @return The {@link Diff} of this snapshot from the specified previous snapshot.
+   */
+  Diff diff(final FileSetSnapshot previous) {
+    final LinkedHashSet<URI> added = new LinkedHashSet<>();
+    final LinkedHashSet<URI> modified = new LinkedHashSet<>();
+    final LinkedHashSet<URI> removed = new LinkedHashSet<>();
+    final LinkedHashSet<URI> unchanged = new LinkedHashSet<>();
+    for (final Map.Entry<URI,Entry> entry : entries.entrySet()) { // [S]
+      final URI uri = entry.getKey();
+      final Entry current = entry.getValue();
+      final Entry last = previous == null ? null : previous.entries.get(uri);
+      if (last == null)
+        added.add(uri);
+      else if (current.digest != null && last.digest != null ? MessageDigest.isEqual(current.digest, last.digest) : current.size == last.size && current.lastModified == last.lastModified)
+        unchanged.add(uri);
+      else
+        modified.add(uri);
+    }
+
+    if (previous != null)
+      for (final URI uri : previous.entries.keySet()) // [S]
+        if (!entries.containsKey(uri))
+          removed.add(uri);
+
+    return new Diff(added, modified, removed, unchanged, previous != null);
+  }
+
+  /**
+   * Persists this snapshot to the specified file, replacing it atomically.
+   *
+   * @param file The file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  void write(final File file) throws IOException {
+    final Path dir = file.getAbsoluteFile().getParentFile().toPath();
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, file.getName(), ".tmp");
+    try {
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(VERSION);
+        out.writeUTF(key);
+        out.writeInt(entries.size());
+        for (final Map.Entry<URI,Entry> entry : entries.entrySet()) { // [S]
+          final Entry value = entry.getValue();
+          out.writeUTF(entry.getKey().toString());
+          out.writeLong(value.size);
+          out.writeLong(value.lastModified);
+          if (value.digest == null) {
+            out.writeByte(0);
+          }
+          else {
+            out.writeByte(value.digest.length);
+            out.write(value.digest);
+          }
+        }
+      }
+
+      Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterator} of the files of a {@link PatternSetMojo} that are delivered by a scan running on another thread, through a
+ * bounded queue. The scan blocks while the queue is full, so memory is bounded by the capacity of the queue, regardless of the
+ * number of files. A failure of the scan is thrown by {@link #hasNext()} as an {@link UncheckedIOException} once the files that
+ * precede it have been consumed.
+ */
+final class FileSetStream implements Iterator<URI>, AutoCloseable {
+  /**
+   * A scan that delivers files to a sink.
+   */
+  @FunctionalInterface
+  interface Scan {
+    void scan(Consumer<URI> sink) throws IOException;
+  }
+
+  private static final Object END = new Object();
+
+  private final ArrayBlockingQueue<Object> queue;
+  private final Thread thread;
+  private Object next;
+  private boolean done;
+  private int count;
+  private IOException error;
+
+  /**
+   * Creates a new {@link FileSetStream} that starts the specified scan on a daemon thread.
+   *
+   * @param capacity The capacity of the queue.
+   * @param scan The scan.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   * @throws NullPointerException If {@code scan} is null.
+   */
+  FileSetStream(final int capacity, final Scan scan) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.thread = new Thread(() -> {
+      Object last = END;
+      try {
+        scan.scan(uri -> {
+          try {
+            queue.put(uri);
+          }
+          catch (final InterruptedException e) {
+            throw new CancellationException();
+          }
+        });
+      }
+      catch (final CancellationException e) {
+        return;
+      }
+      catch (final IOException | RuntimeException | Error e) {
+        last = e;
+      }
+
+      try {
+        queue.put(last);
+      }
+      catch (final InterruptedException e) {
+      }
+    }, FileSetStream.class.getSimpleName());
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next != null)
+      return true;
+
+    if (done)
+      return false;
+
+    final Object value;
+    try {
+      value = queue.take();
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while awaiting files");
+    }
+
+    if (value instanceof URI) {
+      next = value;
+      return true;
+    }
+
+    done = true;
+    if (value instanceof IOException)
+      throw new UncheckedIOException(error = (IOException)value);
+
+    if (value instanceof RuntimeException)
+      throw (RuntimeException)value;
+
+    if (value instanceof Error)
+      throw (Error)value;
+
+    return false;
+  }
+
+  @Override
+  public URI next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+
+    final URI uri = (URI)next;
+    next = null;
+    ++count;
+    return uri;
+  }
+
+  /**
+   * Returns whether the scan has not delivered any files, which waits for the first file or the end of the scan if no files have yet
+   * been consumed.
+   *
+   * @return Whether the scan has not delivered any files.
+   * @throws UncheckedIOException If the scan has failed before delivering any files.
+   */
+  boolean isEmpty() {
+    return count == 0 && !hasNext();
+  }
+
+  /**
+   * Returns the {@link IOException} with which the scan has failed, or {@code null} if the scan has not failed, or its failure has not
+   * yet been reached by this iterator.
+   *
+   * @return The {@link IOException} with which the scan has failed, or {@code null}.
+   */
+  IOException getError() {
+    return error;
+  }
+
+  /**
+   * Stops the scan, if it is running.
+   */
+  @Override
+  public void close() {
+    thread.interrupt();
+  }
+}
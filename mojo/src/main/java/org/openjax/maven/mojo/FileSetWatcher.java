@@ -0,0 +1,253 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A watcher of the resource directories of a {@link PatternSetMojo}, which registers each directory and subdirectory that is not
+ * skipped by its {@link PatternSetMatcher} with a {@link WatchService}, and reports the changes to the files within them in
+ * debounced batches. The matched files of each watched directory are tracked, so that the removal of a directory, which is reported
+ * by the {@link WatchService} as a single event for the directory, is reported as the removal of each matched file within it.
+ */
+final class FileSetWatcher implements AutoCloseable {
+  /**
+   * The change to a file over the course of a batch.
+   */
+  enum Change {
+    ADDED,
+    MODIFIED,
+    REMOVED
+  }
+
+  private final WatchService service;
+  private final HashMap<WatchKey,Path> keyToDir = new HashMap<>();
+  private final HashMap<Path,LinkedHashSet<Path>> dirToFiles = new HashMap<>();
+  private final ArrayList<Path> roots;
+  private final String basedir;
+  private final PatternSetMatcher matcher;
+
+  /**
+   * Creates a new {@link FileSetWatcher} of the specified directories.
+   *
+   * @param dirs The directories.
+   * @param basedir The absolute path of the base directory, relative to which directories are matched.
+   * @param matcher The {@link PatternSetMatcher}, with which subdirectories are skipped.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code dirs}, any member of {@code dirs}, {@code basedir}, or {@code matcher} is null.
+   */
+  FileSetWatcher(final List<File> dirs, final String basedir, final PatternSetMatcher matcher) throws IOException {
+    this.service = dirs.size() == 0 ? null : dirs.get(0).toPath().getFileSystem().newWatchService();
+    this.roots = new ArrayList<>(dirs.size());
+    this.basedir = basedir;
+    this.matcher = matcher;
+    for (int i = 0, i$ = dirs.size(); i < i$; ++i) { // [RA]
+      final Path root = dirs.get(i).toPath();
+      roots.add(root);
+      register(root, null);
+    }
+  }
+
+  private boolean matches(final Path file) {
+    return matcher.matches(file.toFile().getAbsolutePath().substring(basedir.length() + 1));
+  }
+
+  private void register(final Path root, final LinkedHashMap<Path,Change> changes) throws IOException {
+    Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        if (!dir.equals(root)) {
+          final String relative = PatternSetMojo.getRelativePath(dir.toFile(), basedir);
+          if (relative != null && matcher.canSkip(relative))
+            return FileVisitResult.SKIP_SUBTREE;
+        }
+
+        keyToDir.put(dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+        dirToFiles.put(dir, new LinkedHashSet<>());
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+        if (attrs.isDirectory() || !matches(file))
+          return FileVisitResult.CONTINUE;
+
+        dirToFiles.get(file.getParent()).add(file);
+        // Files of a directory that is created while it is being watched may be created before the directory is registered
+        if (changes != null)
+          change(changes, file, Change.ADDED);
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  /**
+   * Stops watching the specified directory and its subdirectories, and reports each matched file within them as removed.
+   */
+  private void unregister(final Path removed, final LinkedHashMap<Path,Change> changes) {
+    for (final Iterator<Map.Entry<WatchKey,Path>> iterator = keyToDir.entrySet().iterator(); iterator.hasNext();) { // [I]
+      final Map.Entry<WatchKey,Path> entry = iterator.next();
+      final Path dir = entry.getValue();
+      if (dir.startsWith(removed)) {
+        entry.getKey().cancel();
+        iterator.remove();
+        final LinkedHashSet<Path> files = dirToFiles.remove(dir);
+        if (files != null)
+          for (final Path file : files) // [S]
+            change(changes, file, Change.REMOVED);
+      }
+    }
+  }
+
+  private static void change(final LinkedHashMap<Path,Change> changes, final Path file, final Change change) {
+    final Change last = changes.get(file);
+    if (last == null)
+      changes.put(file, change);
+    else if (last == Change.ADDED && change == Change.REMOVED)
+      changes.remove(file);
+    else if (last == Change.REMOVED && change == Change.ADDED)
+      changes.put(file, Change.MODIFIED);
+    else if (last != Change.ADDED)
+      changes.put(file, change);
+  }
+
+  /**
+   * Returns the number of watched directories.
+   *
+   * @return The number of watched directories.
+   */
+  int size() {
+    return keyToDir.size();
+  }
+
+  /**
+   * Registers the directories that are not yet watched, such as those created while events were lost, and rebuilds the matched
+   * files of each watched directory. This method should be called before the directories are rescanned after {@link #await(long)}
+   * returns {@code null}.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  void rescan() throws IOException {
+    for (final Iterator<Map.Entry<WatchKey,Path>> iterator = keyToDir.entrySet().iterator(); iterator.hasNext();) { // [I]
+      final Map.Entry<WatchKey,Path> entry = iterator.next();
+      if (!Files.isDirectory(entry.getValue())) {
+        entry.getKey().cancel();
+        iterator.remove();
+      }
+    }
+
+    dirToFiles.clear();
+    for (int i = 0, i$ = roots.size(); i < i$; ++i) { // [RA]
+      final Path root = roots.get(i);
+      if (Files.isDirectory(root))
+        register(root, null);
+    }
+  }
+
+  /**
+   * Waits for a change, and then for the changes that follow it until none occur for the specified debounce period, and returns the
+   * consolidated change of each file, in order of first change. A file that is added and then removed is omitted, and a file that is
+   * removed and then added is modified. The removal of a watched directory is reported as the removal of each matched file within
+   * it.
+   *
+   * @param debounce The debounce period in milliseconds.
+   * @return The consolidated change of each file in order of first change, or {@code null} if events were lost, in which case
+   *         {@link #rescan()} should be called, and the directories should be rescanned.
+   * @throws InterruptedException If the current thread was interrupted while waiting.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalStateException If there are no directories to watch.
+   */
+  LinkedHashMap<Path,Change> await(final long debounce) throws InterruptedException, IOException {
+    if (service == null)
+      throw new IllegalStateException("No directories to watch");
+
+    final LinkedHashMap<Path,Change> changes = new LinkedHashMap<>();
+    boolean overflow = false;
+    for (WatchKey key = service.take(); key != null; key = service.poll(debounce, TimeUnit.MILLISECONDS)) {
+      final Path dir = keyToDir.get(key);
+      for (final WatchEvent<?> event : key.pollEvents()) { // [L]
+        final WatchEvent.Kind<?> kind = event.kind();
+        if (kind == StandardWatchEventKinds.OVERFLOW) {
+          overflow = true;
+          continue;
+        }
+
+        // Events of a directory that has been unregistered are superseded by the removal of its files
+        if (dir == null)
+          continue;
+
+        final Path path = dir.resolve((Path)event.context());
+        if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+          if (dirToFiles.containsKey(path)) {
+            unregister(path, changes);
+          }
+          else {
+            final LinkedHashSet<Path> files = dirToFiles.get(dir);
+            if (files != null)
+              files.remove(path);
+
+            change(changes, path, Change.REMOVED);
+          }
+        }
+        else if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+          final String relative = PatternSetMojo.getRelativePath(path.toFile(), basedir);
+          if (!dirToFiles.containsKey(path) && (relative == null || !matcher.canSkip(relative)))
+            register(path, changes);
+        }
+        else {
+          if (kind == StandardWatchEventKinds.ENTRY_CREATE && matches(path)) {
+            final LinkedHashSet<Path> files = dirToFiles.get(dir);
+            if (files != null)
+              files.add(path);
+          }
+
+          change(changes, path, kind == StandardWatchEventKinds.ENTRY_CREATE ? Change.ADDED : Change.MODIFIED);
+        }
+      }
+
+      if (!key.reset() && keyToDir.remove(key) != null)
+        dirToFiles.remove(dir);
+    }
+
+    return overflow ? null : changes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (service != null)
+      service.close();
+  }
+}
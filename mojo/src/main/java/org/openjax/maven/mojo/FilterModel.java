@@ -0,0 +1,213 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * The compiled model of the {@link FilterParameter} fields of a {@link FilterMojo} class. The model is built once per class, and
+ * holds everything that {@link FilterMojo#getFilterParameters()} needs to filter the parameters of an instance without further
+ * reflection. Configuration errors are detected when the model is built, and are rethrown on each request for the model. Errors
+ * reading the bytecode of the class are not retained, so the model is built again on the next request.
+ */
+final class FilterModel {
+  /**
+   * A field declared with {@link FilterParameter}.
+   */
+  static final class Property {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Field field;
+    private final String name;
+    private final FilterType filterType;
+    private final boolean isList;
+    private final Type elementType;
+    private final MethodHandle getter;
+
+    private Property(final Field field, final String name, final FilterType filterType, final boolean isList, final Type elementType) throws IllegalAccessException {
+      this.field = field;
+      this.name = name;
+      this.filterType = filterType;
+      this.isList = isList;
+      this.elementType = elementType;
+      field.setAccessible(true);
+      this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER);
+    }
+
+    Field getField() {
+      return field;
+    }
+
+    /**
+     * Returns the property name, as declared by {@link Parameter#property()}.
+     *
+     * @return The property name, as declared by {@link Parameter#property()}.
+     */
+    String getName() {
+      return name;
+    }
+
+    FilterType getFilterType() {
+      return filterType;
+    }
+
+    boolean isList() {
+      return isList;
+    }
+
+    /**
+     * Returns the type of the field, or the type argument of the field if it is a {@link List}.
+     *
+     * @return The type of the field, or the type argument of the field if it is a {@link List}.
+     */
+    Type getElementType() {
+      return elementType;
+    }
+
+    Object get(final Object mojo) {
+      try {
+        return getter.invokeExact(mojo);
+      }
+      catch (final RuntimeException | Error e) {
+        throw e;
+      }
+      catch (final Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  private static final Property[] EMPTY = {};
+
+  private static final ClassValue<FilterModel> classToModel = new ClassValue<FilterModel>() {
+    @Override
+    protected FilterModel computeValue(final Class<?> type) {
+      try {
+        return new FilterModel(getProperties(type), null, true);
+      }
+      catch (final IllegalAccessException | IOException e) {
+        return new FilterModel(null, new MojoFailureException("Unable to read the @" + FilterParameter.class.getSimpleName() + " fields of " + type.getName() + ": " + e.getMessage(), e), false);
+      }
+      catch (final IllegalArgumentException | MojoFailureException e) {
+        return new FilterModel(null, e, true);
+      }
+    }
+  };
+
+  private static Property[] getProperties(final Class<?> type) throws IllegalAccessException, IOException, MojoFailureException {
+    final Map<Field,Map<Class<? extends Annotation>,Annotation>> fields = AnnotationUtil.getAnnotatedFields(type, FilterParameter.class, Parameter.class);
+    if (fields.size() == 0)
+      return EMPTY;
+
+    final ArrayList<Property> properties = new ArrayList<>();
+    for (final Map.Entry<Field,Map<Class<? extends Annotation>,Annotation>> entry : fields.entrySet()) { // [S]
+      final Map<Class<? extends Annotation>,Annotation> annotations = entry.getValue();
+      final FilterParameter filterParameter = (FilterParameter)annotations.get(FilterParameter.class);
+      if (filterParameter == null)
+        continue;
+
+      final Field field = entry.getKey();
+      final Parameter parameter = (Parameter)annotations.get(Parameter.class);
+      if (parameter == null)
+        throw new MojoFailureException("@" + FilterParameter.class.getSimpleName() + " annotation can only be used on field having @" + Parameter.class.getSimpleName() + " annotation: " + field.getDeclaringClass().getName() + "." + field.getName());
+
+      final boolean isList = List.class.isAssignableFrom(field.getType());
+      final Type typeArgument;
+      if (isList) {
+        final Type genericType = field.getGenericType();
+        final Type[] typeArguments = genericType instanceof ParameterizedType ? ((ParameterizedType)genericType).getActualTypeArguments() : null;
+        typeArgument = typeArguments == null || typeArguments.length == 0 ? null : typeArguments[0];
+      }
+      else {
+        typeArgument = field.getType();
+      }
+
+      final FilterType filterType = filterParameter.value();
+      if (filterType == FilterType.FILE) {
+        if (typeArgument != File.class)
+          throw new IllegalArgumentException("Field specified with @" + FilterParameter.class.getSimpleName() + "(" + FilterType.class.getSimpleName() + ".FILE) must be of type " + File.class.getName() + " or " + List.class.getName() + "<" + File.class.getName() + ">, but found " + typeArgument);
+      }
+      else if (typeArgument != String.class) {
+        throw new IllegalArgumentException("Field specified with @" + FilterParameter.class.getSimpleName() + "(" + FilterType.class.getSimpleName() + ".URL) must be of type String or " + List.class.getName() + "<String>, but found " + typeArgument);
+      }
+
+      properties.add(new Property(field, parameter.property(), filterType, isList, typeArgument));
+    }
+
+    return properties.toArray(EMPTY);
+  }
+
+  /**
+   * Returns the {@link FilterModel} of the specified {@link FilterMojo} class, which is built on first request, and again on the
+   * next request if the bytecode of the class could not be read.
+   *
+   * @param type The {@link FilterMojo} class.
+   * @return The {@link FilterModel} of the specified {@link FilterMojo} class.
+   * @throws MojoFailureException If a field with the {@link FilterParameter} annotation does not declare the {@link Parameter}
+   *           annotation, or if the bytecode of the class could not be read.
+   * @throws IllegalArgumentException If a field with the {@link FilterParameter} annotation is declared with a type that is not
+   *           supported by its {@link FilterType}.
+   * @throws NullPointerException If {@code type} is null.
+   */
+  static FilterModel get(final Class<?> type) throws MojoFailureException {
+    final FilterModel model = classToModel.get(type);
+    if (!model.cacheable)
+      classToModel.remove(type);
+
+    if (model.error instanceof MojoFailureException)
+      throw (MojoFailureException)model.error;
+
+    if (model.error != null)
+      throw (RuntimeException)model.error;
+
+    return model;
+  }
+
+  private final Property[] properties;
+  private final Exception error;
+  private final boolean cacheable;
+
+  private FilterModel(final Property[] properties, final Exception error, final boolean cacheable) {
+    this.properties = properties;
+    this.error = error;
+    this.cacheable = cacheable;
+  }
+
+  /**
+   * Returns the {@link Property} of each field declared with {@link FilterParameter}, in the order of
+   * {@link AnnotationUtil#getAnnotatedFields(Class,Class...)}.
+   *
+   * @return The {@link Property} of each field declared with {@link FilterParameter}.
+   */
+  Property[] getProperties() {
+    return properties;
+  }
+}
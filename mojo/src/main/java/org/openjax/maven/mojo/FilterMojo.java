@@ -18,18 +18,17 @@ package org.openjax.maven.mojo;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLClassLoader;
+import java.security.MessageDigest;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
@@ -40,15 +39,21 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
-import org.libj.lang.Classes;
 import org.libj.net.URLStreamHandlers;
 import org.libj.net.URLs;
 import org.libj.util.CollectionUtil;
 import org.libj.util.StringPaths;
-import org.libj.util.function.Throwing;
 
 /**
- * An abstract class extending {@link BaseMojo} that parameter filtering for MOJOs via {@link FilterParameter}.
+ * An abstract class extending {@link BaseMojo} that parameter filtering for MOJOs via {@link FilterParameter}, and provides the
+ * following convenience parameters:
+ * <ul>
+ * <li>filterParallel: Whether the values of {@link List} parameters are filtered in parallel. Default: false.</li>
+ * <li>filterParallelThreshold: The minimum total number of {@link List} parameter values for which filtering is performed in
+ * parallel, if {@code filterParallel} is set. Default: 256.</li>
+ * <li>urlCacheDir: The directory in which to cache the content of remote {@link FilterType#URL} parameter values, which are then
+ * filtered to the {@link URL} of the cached copy. When offline, content is served from the cache only. Default: none.</li>
+ * </ul>
  */
 public abstract class FilterMojo extends BaseMojo {
   static {
@@ -61,6 +66,18 @@ public abstract class FilterMojo extends BaseMojo {
     }
   }
 
+  @Parameter(property = "filterParallel")
+  @ExecutionSetting
+  private boolean filterParallel = false;
+
+  @Parameter(property = "filterParallelThreshold")
+  @ExecutionSetting
+  private int filterParallelThreshold = 256;
+
+  @Parameter(property = "urlCacheDir")
+  @ExecutionSetting
+  private File urlCacheDir;
+
   private boolean wasFiltered;
   private Map<String,Object> filteredParameters;
 
@@ -68,7 +85,7 @@ public abstract class FilterMojo extends BaseMojo {
     return StringPaths.isAbsolute(value) ? URLs.toCanonicalURL(value) : baseDir != null ? new File(baseDir, value).toURI().toURL() : new File(value).toURI().toURL();
   }
 
-  private static URL filterResource(final String value, final ClassLoader classLoader) throws MojoExecutionException {
+  private static URL filterResource(final String value, final ClassLoaderCache.Lease classLoader) throws MojoExecutionException {
     final URL url = classLoader.getResource(value);
     if (url == null)
       throw new MojoExecutionException("Resource not found in Context ClassLoader: " + value);
@@ -76,6 +93,151 @@ public abstract class FilterMojo extends BaseMojo {
     return url;
   }
 
+  private URL[] getResourceClassPath(final MavenProject project) throws DependencyResolutionRequiredException, MalformedURLException {
+    // Compile and runtime classpath elements overlap, and only the first occurrence of an entry is effective
+    final LinkedHashSet<String> classPaths = new LinkedHashSet<>();
+    final List<Resource> resources = project.getResources();
+    final int i$ = resources.size();
+    if (i$ > 0) {
+      if (CollectionUtil.isRandomAccess(resources)) {
+        int i = 0;
+        do // [RA]
+          classPaths.add(resources.get(i).getDirectory());
+        while (++i < i$);
+      }
+      else {
+        final Iterator<Resource> it = resources.iterator();
+        do // [I]
+          classPaths.add(it.next().getDirectory());
+        while (it.hasNext());
+      }
+    }
+
+    final ArtifactRepository localRepository = getSession().getLocalRepository();
+    final ClasspathService classpathService = ClasspathService.get(getSession());
+    classPaths.addAll(classpathService.getPluginDependencyClassPath((PluginDescriptor)getPluginContext().get("pluginDescriptor"), localRepository, new DefaultArtifactHandler("jar")));
+    classPaths.addAll(project.getRuntimeClasspathElements());
+    classPaths.addAll(project.getCompileClasspathElements());
+    if (isInTestPhase()) {
+      final List<Resource> testResources = project.getTestResources();
+      final int j$ = testResources.size();
+      if (j$ > 0) {
+        if (CollectionUtil.isRandomAccess(testResources)) {
+          int j = 0;
+          do // [RA]
+            classPaths.add(testResources.get(j).getDirectory());
+          while (++j < j$);
+        }
+        else {
+          final Iterator<Resource> it = testResources.iterator();
+          do // [I]
+            classPaths.add(it.next().getDirectory());
+          while (it.hasNext());
+        }
+      }
+
+      classPaths.addAll(classpathService.getProjectDependencyPaths(project, localRepository));
+      classPaths.addAll(project.getTestClasspathElements());
+    }
+
+    final URL[] classPathURLs = new URL[classPaths.size()];
+    int j = 0;
+    for (final String path : classPaths) // [S]
+      classPathURLs[j++] = new URL("file", "", path.endsWith(".jar") ? path : (path + "/"));
+
+    return classPathURLs;
+  }
+
+  /**
+   * Replaces each glob in the values of the specified {@link FilterType#FILE} parameters with the sorted list of files that it
+   * matches. The globs of all parameters are expanded together, so that each root directory is walked once.
+   */
+  @SuppressWarnings("unchecked")
+  private static void expandFiles(final Map<String,Object> nameToInputs, final ArrayList<String> fileParameters) throws IOException {
+    final ArrayList<String> globs = new ArrayList<>();
+    for (int i = 0, i$ = fileParameters.size(); i < i$; ++i) { // [RA]
+      final Object value = nameToInputs.get(fileParameters.get(i));
+      if (value instanceof List) {
+        for (final File file : (List<File>)value) // [L]
+          if (file != null && FileGlob.isGlob(file.getPath()))
+            globs.add(file.getPath());
+      }
+      else if (FileGlob.isGlob(((File)value).getPath())) {
+        globs.add(((File)value).getPath());
+      }
+    }
+
+    if (globs.size() == 0)
+      return;
+
+    final Map<String,List<File>> globToFiles = FileGlob.expand(globs);
+    for (int i = 0, i$ = fileParameters.size(); i < i$; ++i) { // [RA]
+      final String name = fileParameters.get(i);
+      final Object value = nameToInputs.get(name);
+      if (value instanceof List) {
+        final List<File> files = (List<File>)value;
+        final ArrayList<File> expanded = new ArrayList<>(files.size());
+        for (final File file : files) { // [L]
+          final List<File> matches = file == null ? null : globToFiles.get(file.getPath());
+          if (matches != null)
+            expanded.addAll(matches);
+          else
+            expanded.add(file);
+        }
+
+        files.clear();
+        files.addAll(expanded);
+      }
+      else {
+        final List<File> matches = globToFiles.get(((File)value).getPath());
+        if (matches != null)
+          nameToInputs.put(name, new ArrayList<>(matches));
+      }
+    }
+  }
+
+  /**
+   * Replaces each remote URL in the values of the specified {@link FilterType#URL} parameters with the {@link URL} of its copy in
+   * {@code urlCacheDir}. The URLs of all parameters are fetched concurrently.
+   */
+  @SuppressWarnings("unchecked")
+  private void cacheURLs(final Map<String,Object> nameToInputs, final ArrayList<String> urlParameters) throws MojoExecutionException {
+    final ArrayList<String> locations = new ArrayList<>();
+    for (int i = 0, i$ = urlParameters.size(); i < i$; ++i) { // [RA]
+      final Object value = nameToInputs.get(urlParameters.get(i));
+      if (value instanceof List) {
+        for (final String location : (List<String>)value) // [L]
+          if (location != null && URLCache.isCacheable(location))
+            locations.add(location);
+      }
+      else if (value != null && URLCache.isCacheable(value.toString())) {
+        locations.add(value.toString());
+      }
+    }
+
+    if (locations.size() == 0)
+      return;
+
+    final Map<String,URL> locationToURL = URLCache.get(getSession(), urlCacheDir, getOffline()).fetchAll(locations, getLog());
+    for (int i = 0, i$ = urlParameters.size(); i < i$; ++i) { // [RA]
+      final String name = urlParameters.get(i);
+      final Object value = nameToInputs.get(name);
+      if (value instanceof List) {
+        final ListIterator<String> iterator = ((List<String>)value).listIterator();
+        while (iterator.hasNext()) {
+          final URL url = locationToURL.get(iterator.next());
+          if (url != null)
+            iterator.set(url.toString());
+        }
+      }
+      else if (value != null) {
+        final URL url = locationToURL.get(value.toString());
+        if (url != null)
+          nameToInputs.put(name, url);
+      }
+    }
+  }
+
   /**
    * Filters parameters declared with the {@link FilterParameter} annotation, and replaces each field's value with the filtered value.
    *
@@ -84,7 +246,8 @@ public abstract class FilterMojo extends BaseMojo {
    *         {@link FilterParameter} annotation.
    * @throws DependencyResolutionRequiredException If an artifact file is used, but has not been resolved.
    * @throws MojoExecutionException If a source input property is declared with {@code required=true}, and no property values are
-   *           declared in the POM.
+   *           declared in the POM, or if a {@link FilterType#RESOURCE} value cannot be found. If values are filtered in parallel, all
+   *           failures are reported together as suppressed exceptions.
    * @throws MojoFailureException If no fields are found with the {@link FilterParameter} annotation in the specified class, or if a
    *           field with the {@link FilterParameter} annotation is declared with a type other than {@link List}, or if a field with
    *           the {@link FilterParameter} annotation does not declare the {@link Parameter} annotation.
@@ -95,8 +258,8 @@ public abstract class FilterMojo extends BaseMojo {
       return filteredParameters;
 
     wasFiltered = true;
-    final Field[] fields = Classes.getDeclaredFieldsDeep(getClass(), Throwing.<Field>rethrow((final Field f) -> AnnotationUtil.getAnnotationParameters(f, FilterParameter.class) != null));
-    if (fields == null || fields.length == 0)
+    final FilterModel.Property[] properties = FilterModel.get(getClass()).getProperties();
+    if (properties.length == 0)
       return null;
 
     final MavenProject project = (MavenProject)getPluginContext().get("project");
@@ -114,177 +277,195 @@ public abstract class FilterMojo extends BaseMojo {
       }
     };
 
+    ClassLoaderCache.Lease resourceClassLoader = null;
+    final ParallelFilter parallelFilter = filterParallel ? new ParallelFilter() : null;
+    final ArrayList<String> urlParameters = urlCacheDir != null ? new ArrayList<>() : null;
+    ArrayList<String> fileParameters = null;
     try {
-      for (final Field field : fields) { // [A]
-        final Parameter parameter = AnnotationUtil.getAnnotationParameters(field, Parameter.class);
-        if (parameter == null)
-          throw new MojoFailureException("@" + FilterParameter.class.getSimpleName() + " annotation can only be used on field having @" + Parameter.class.getSimpleName() + " annotation: " + field.getDeclaringClass().getName() + "." + field.getName());
-
-        final boolean isList = List.class.isAssignableFrom(field.getType());
-        final Type typeArgument;
-        if (isList) {
-          final ParameterizedType genericType = (ParameterizedType)field.getGenericType();
-          typeArgument = genericType.getActualTypeArguments().length == 0 ? null : genericType.getActualTypeArguments()[0];
-        }
-        else {
-          typeArgument = field.getType();
-        }
-
-        field.setAccessible(true);
-        final Object value = field.get(this);
+      for (final FilterModel.Property property : properties) { // [A]
+        final boolean isList = property.isList();
+        final Object value = property.get(this);
         final Object filteredValue;
 
-        final FilterParameter filterParameter = AnnotationUtil.getAnnotationParameters(field, FilterParameter.class);
-        final FilterType filterType = filterParameter.value();
+        final FilterType filterType = property.getFilterType();
         if (filterType == FilterType.FILE) {
-          if (typeArgument != File.class)
-            throw new IllegalArgumentException("Field specified with @" + FilterParameter.class.getSimpleName() + "(" + FilterType.class.getSimpleName() + ".FILE) must be of type " + File.class.getName() + " or " + List.class.getName() + "<" + File.class.getName() + ">, but found " + typeArgument);
-
           filteredValue = value;
+          if (value != null) {
+            if (fileParameters == null)
+              fileParameters = new ArrayList<>();
+
+            fileParameters.add(property.getName());
+          }
         }
-        else {
-          if (typeArgument != String.class)
-            throw new IllegalArgumentException("Field specified with @" + FilterParameter.class.getSimpleName() + "(" + FilterType.class.getSimpleName() + ".URL) must be of type String or " + List.class.getName() + "<String>, but found " + typeArgument);
-
-          if (filterType == FilterType.URL) {
-            final File baseDir = project.getBasedir().getAbsoluteFile();
-            if (isList) {
-              final List<String> values = (List<String>)(filteredValue = value);
-              final int i$ = values.size();
-              if (i$ > 0) {
-                if (CollectionUtil.isRandomAccess(values)) {
-                  int i = 0;
-                  do // [RA]
-                    values.set(i, filterURL(values.get(i), baseDir).toString());
-                  while (++i < i$);
-                }
-                else {
-                  int i = -1;
-                  final Iterator<String> it = values.iterator();
-                  do // [I]
-                    values.set(++i, filterURL(it.next(), baseDir).toString());
-                  while (it.hasNext());
-                }
-              }
-            }
-            else {
-              filteredValue = filterURL((String)value, baseDir);
-              field.set(this, value);
-            }
+        else if (filterType == FilterType.URL) {
+          if (urlParameters != null)
+            urlParameters.add(property.getName());
+
+          final File baseDir = project.getBasedir().getAbsoluteFile();
+          if (isList && parallelFilter != null) {
+            parallelFilter.add((List<String>)(filteredValue = value), v -> filterURL(v, baseDir).toString());
           }
-          else if (filterType == FilterType.RESOURCE) {
-            final ArrayList<String> classPaths = new ArrayList<>();
-            final List<Resource> resources = project.getResources();
-            final int i$ = resources.size();
+          else if (isList) {
+            final List<String> values = (List<String>)(filteredValue = value);
+            final int i$ = values.size();
             if (i$ > 0) {
-              if (CollectionUtil.isRandomAccess(resources)) {
+              if (CollectionUtil.isRandomAccess(values)) {
                 int i = 0;
                 do // [RA]
-                  classPaths.add(resources.get(i).getDirectory());
+                  values.set(i, filterURL(values.get(i), baseDir).toString());
                 while (++i < i$);
               }
               else {
-                final Iterator<Resource> it = resources.iterator();
+                int i = -1;
+                final Iterator<String> it = values.iterator();
                 do // [I]
-                  classPaths.add(it.next().getDirectory());
+                  values.set(++i, filterURL(it.next(), baseDir).toString());
                 while (it.hasNext());
               }
             }
+          }
+          else {
+            filteredValue = filterURL((String)value, baseDir);
+          }
+        }
+        else if (filterType == FilterType.RESOURCE) {
+          if (resourceClassLoader == null)
+            resourceClassLoader = ClassLoaderCache.get(getSession()).acquire(getResourceClassPath(project), Thread.currentThread().getContextClassLoader());
 
-            final ArtifactRepository localRepository = getSession().getLocalRepository();
-            classPaths.addAll(MojoUtil.getPluginDependencyClassPath((PluginDescriptor)getPluginContext().get("pluginDescriptor"), localRepository, new DefaultArtifactHandler("jar")));
-            classPaths.addAll(project.getRuntimeClasspathElements());
-            classPaths.addAll(project.getCompileClasspathElements());
-            if (isInTestPhase()) {
-              final List<Resource> testResources = project.getTestResources();
-              final int j$ = testResources.size();
-              if (j$ > 0) {
-                if (CollectionUtil.isRandomAccess(testResources)) {
-                  int j = 0;
-                  do // [RA]
-                    classPaths.add(testResources.get(j).getDirectory());
-                  while (++j < j$);
-                }
-                else {
-                  final Iterator<Resource> it = testResources.iterator();
-                  do // [I]
-                    classPaths.add(it.next().getDirectory());
-                  while (it.hasNext());
-                }
-              }
-
-              Collections.addAll(classPaths, MojoUtil.getProjectDependencyPaths(project, localRepository));
-              classPaths.addAll(project.getTestClasspathElements());
-            }
-
-            final int len = classPaths.size();
-            final URL[] classPathURLs = new URL[len];
-            for (int j = 0; j < len; ++j) { // [A]
-              final String path = classPaths.get(j);
-              classPathURLs[j] = new URL("file", "", path.endsWith(".jar") ? path : (path + "/"));
-            }
-
-            try (final URLClassLoader classLoader = new URLClassLoader(classPathURLs, Thread.currentThread().getContextClassLoader())) {
-              if (isList) {
-                final List<String> values = (List<String>)(filteredValue = value);
-                final int j$ = values.size();
-                if (j$ > 0) {
-                  if (CollectionUtil.isRandomAccess(values)) {
-                    int j = 0;
-                    do // [RA]
-                      values.set(j, filterResource(values.get(j), classLoader).toString());
-                    while (++j < j$);
-                  }
-                  else {
-                    int j = -1;
-                    final Iterator<String> it = values.iterator();
-                    do // [I]
-                      values.set(++j, filterResource(it.next(), classLoader).toString());
-                    while (it.hasNext());
-                  }
-                }
+          if (isList && parallelFilter != null) {
+            final ClassLoaderCache.Lease classLoader = resourceClassLoader;
+            parallelFilter.add((List<String>)(filteredValue = value), v -> filterResource(v, classLoader).toString());
+          }
+          else if (isList) {
+            final List<String> values = (List<String>)(filteredValue = value);
+            final int j$ = values.size();
+            if (j$ > 0) {
+              if (CollectionUtil.isRandomAccess(values)) {
+                int j = 0;
+                do // [RA]
+                  values.set(j, filterResource(values.get(j), resourceClassLoader).toString());
+                while (++j < j$);
               }
               else {
-                filteredValue = filterResource((String)value, classLoader).toString();
-                field.set(this, value);
+                int j = -1;
+                final Iterator<String> it = values.iterator();
+                do // [I]
+                  values.set(++j, filterResource(it.next(), resourceClassLoader).toString());
+                while (it.hasNext());
               }
             }
           }
           else {
-            throw new UnsupportedOperationException("Unsupported @" + FilterType.class.getSimpleName() + ": " + filterType);
+            filteredValue = filterResource((String)value, resourceClassLoader).toString();
           }
         }
+        else {
+          throw new UnsupportedOperationException("Unsupported @" + FilterType.class.getSimpleName() + ": " + filterType);
+        }
 
-        nameToInputs.put(parameter.property(), filteredValue);
+        nameToInputs.put(property.getName(), filteredValue);
       }
 
-      return filteredParameters = nameToInputs;
+      if (parallelFilter != null)
+        parallelFilter.filter(filterParallelThreshold);
+
+      if (fileParameters != null)
+        expandFiles(nameToInputs, fileParameters);
+
+      if (urlParameters != null && urlParameters.size() > 0)
+        cacheURLs(nameToInputs, urlParameters);
+
+      return nameToInputs.size() == 0 ? null : (filteredParameters = nameToInputs);
     }
-    catch (final IllegalAccessException | IOException e) {
+    catch (final IOException e) {
       throw new MojoFailureException(null, e);
     }
+    finally {
+      if (resourceClassLoader != null)
+        resourceClassLoader.close();
+    }
   }
 
+  /**
+   * Updates the specified {@link MessageDigest} with the inputs of this MOJO, which, in addition to the parameter values
+   * digested by {@link BaseMojo#digestInputs(MessageDigest)}, include the filtered values of the {@link FilterParameter} fields, and
+   * the content of the files, {@link URL}s and resources to which they refer.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @return {@code false} if the inputs cannot be represented by the digest, in which case the execution is never skipped; otherwise
+   *         {@code true}.
+   * @throws MojoExecutionException If the parameters could not be filtered, or the content to which they refer could not be read.
+   * @throws MojoFailureException If the parameters could not be filtered.
+   */
   @Override
-  public final void execute(final BaseMojo.Configuration configuration) throws MojoExecutionException, MojoFailureException {
+  protected boolean digestInputs(final MessageDigest digest) throws MojoExecutionException, MojoFailureException {
+    final Map<String,Object> nameToInputs;
     final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-    final String[] classpath = MojoUtil.getProjectDependencyPaths(getProject(), getSession().getLocalRepository());
-    final URL[] urls = new URL[classpath.length];
-    for (int i = 0, i$ = classpath.length; i < i$; ++i) // [A]
-      urls[i] = URLs.create("file", "", classpath[i]);
+    final URL[] urls = ClasspathService.get(getSession()).getProjectDependencyURLs(getProject(), getSession().getLocalRepository());
+    final ClassLoaderCache.Lease dependencyClassLoader = ClassLoaderCache.get(getSession()).acquire(urls, contextClassLoader);
+    try {
+      Thread.currentThread().setContextClassLoader(dependencyClassLoader.getClassLoader());
+      nameToInputs = getFilterParameters();
+    }
+    catch (final DependencyResolutionRequiredException e) {
+      throw new MojoFailureException(e.getMessage(), e);
+    }
+    finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+      dependencyClassLoader.close();
+    }
+
+    // Filtering replaces the values of List parameters in place, so the parameters are digested after they are filtered
+    if (!super.digestInputs(digest))
+      return false;
+
+    if (nameToInputs != null) {
+      try {
+        for (final Map.Entry<String,Object> entry : new TreeMap<>(nameToInputs).entrySet()) { // [S]
+          Digests.update(digest, entry.getKey());
+          digestContent(digest, entry.getValue(), getProject().getBasedir());
+        }
+      }
+      catch (final IOException e) {
+        throw new MojoExecutionException(e.getMessage(), e);
+      }
+    }
 
-    try (final URLClassLoader dependencyClassLoader = new URLClassLoader(urls, contextClassLoader)) {
-      Thread.currentThread().setContextClassLoader(dependencyClassLoader);
+    return true;
+  }
+
+  private static void digestContent(final MessageDigest digest, final Object value, final File basedir) throws IOException {
+    if (value instanceof List) {
+      for (final Object member : (List<?>)value) // [L]
+        digestContent(digest, member, basedir);
+    }
+    else if (value instanceof File) {
+      InputDigest.update(digest, (File)value, basedir);
+    }
+    else if (value instanceof URL) {
+      InputDigest.update(digest, (URL)value, basedir);
+    }
+    else if (value != null) {
+      InputDigest.update(digest, new URL(value.toString()), basedir);
+    }
+  }
+
+  @Override
+  public final void execute(final BaseMojo.Configuration configuration) throws MojoExecutionException, MojoFailureException {
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final URL[] urls = ClasspathService.get(getSession()).getProjectDependencyURLs(getProject(), getSession().getLocalRepository());
+    final ClassLoaderCache.Lease dependencyClassLoader = ClassLoaderCache.get(getSession()).acquire(urls, contextClassLoader);
+    try {
+      Thread.currentThread().setContextClassLoader(dependencyClassLoader.getClassLoader());
       getFilterParameters();
       execute(new Configuration(configuration));
     }
-    catch (final IOException ignore) {
-    }
     catch (final DependencyResolutionRequiredException e) {
       throw new MojoFailureException(e.getMessage(), e);
     }
     finally {
       Thread.currentThread().setContextClassLoader(contextClassLoader);
+      dependencyClassLoader.close();
     }
   }
 
@@ -22,6 +22,10 @@ package org.openjax.maven.mojo;
  * @see FilterMojo
  */
 public enum FilterType {
+  /**
+   * A {@link java.io.File} parameter, whose value may be an Ant-style glob (such as {@code src/main/schemas/**}{@code /*.xsd}) that
+   * is expanded to the sorted list of matching files.
+   */
   FILE,
   RESOURCE,
   URL
@@ -0,0 +1,214 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * An executor of the independent tasks of a {@link GeneratorMojo}, such as the generation of individual files. Tasks run on virtual
+ * threads if the JVM supports them (JDK 21+), and otherwise on a pool bounded by the number of available processors. Each task logs
+ * to its own {@link Log}, the output of which is flushed in order of submission, so that the log of the execution is the same as if
+ * the tasks had run sequentially. The failures of all tasks are collected into a single {@link MojoExecutionException}.
+ */
+public final class GeneratorExecutor implements AutoCloseable {
+  /**
+   * A task that is submitted to a {@link GeneratorExecutor}.
+   */
+  @FunctionalInterface
+  public interface Task {
+    /**
+     * Runs this task.
+     *
+     * @param log The {@link Log} of this task, the output of which is flushed in order of submission.
+     * @throws Exception If an exception has occurred.
+     */
+    void run(Log log) throws Exception;
+  }
+
+  private static final MethodHandle newVirtualThreadPerTaskExecutor;
+
+  static {
+    MethodHandle handle = null;
+    try {
+      handle = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    }
+    catch (final IllegalAccessException | NoSuchMethodException e) {
+    }
+
+    newVirtualThreadPerTaskExecutor = handle;
+  }
+
+  private ExecutorService newExecutorService() {
+    if (newVirtualThreadPerTaskExecutor != null) {
+      try {
+        final ExecutorService executorService = (ExecutorService)newVirtualThreadPerTaskExecutor.invokeExact();
+        virtual = true;
+        return executorService;
+      }
+      catch (final Throwable t) {
+      }
+    }
+
+    return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+      final Thread thread = new Thread(r, GeneratorExecutor.class.getSimpleName());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static final class TaskLog extends DeferredLog {
+    private TaskLog(final Log target) {
+      super(target);
+    }
+
+    @Override
+    protected void flush(final Level level, final CharSequence content, final Throwable error) {
+      level.flush(getTarget(), content, error);
+    }
+  }
+
+  private final Log log;
+  private final ArrayList<Future<?>> futures = new ArrayList<>();
+  private final ArrayList<TaskLog> logs = new ArrayList<>();
+  private ExecutorService executorService;
+  private boolean virtual;
+
+  GeneratorExecutor(final Log log) {
+    this.log = log;
+  }
+
+  /**
+   * Returns whether the tasks of this executor run on virtual threads, as determined by the executor that is created when the first
+   * task is submitted.
+   *
+   * @return Whether the tasks of this executor run on virtual threads, or {@code false} if no task has been submitted.
+   */
+  public synchronized boolean isVirtual() {
+    return virtual;
+  }
+
+  /**
+   * Submits the specified task for execution. The task runs with the context class loader of the submitting thread.
+   *
+   * @param task The task.
+   * @throws IllegalStateException If this executor has been closed, or has awaited the completion of its tasks.
+   * @throws NullPointerException If {@code task} is null.
+   */
+  public synchronized void submit(final Task task) {
+    if (executorService == null) {
+      if (futures.size() > 0)
+        throw new IllegalStateException("Executor is closed");
+
+      executorService = newExecutorService();
+    }
+
+    final TaskLog taskLog = new TaskLog(log);
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    futures.add(executorService.submit(() -> {
+      final Thread thread = Thread.currentThread();
+      final ClassLoader contextClassLoader = thread.getContextClassLoader();
+      thread.setContextClassLoader(classLoader);
+      try {
+        task.run(taskLog);
+        return null;
+      }
+      finally {
+        thread.setContextClassLoader(contextClassLoader);
+      }
+    }));
+    logs.add(taskLog);
+  }
+
+  /**
+   * Waits for the completion of all submitted tasks, flushing the log of each task in order of submission, and closes this executor.
+   * If a single task fails with a {@link MojoExecutionException}, it is rethrown. Otherwise, if any task fails, a
+   * {@link MojoExecutionException} is thrown with each failure added as a suppressed exception, in order of submission.
+   *
+   * @throws MojoExecutionException If a task has failed, or if the current thread was interrupted.
+   */
+  void await() throws MojoExecutionException {
+    ArrayList<Throwable> failures = null;
+    int count = 0;
+    try {
+      while (true) {
+        final Future<?> future;
+        final TaskLog taskLog;
+        synchronized (this) {
+          if (count == futures.size())
+            break;
+
+          future = futures.get(count);
+          taskLog = logs.get(count);
+        }
+
+        ++count;
+        try {
+          future.get();
+        }
+        catch (final ExecutionException e) {
+          if (failures == null)
+            failures = new ArrayList<>();
+
+          failures.add(e.getCause());
+        }
+
+        taskLog.flush(null);
+      }
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while awaiting tasks", e);
+    }
+    finally {
+      close();
+    }
+
+    if (failures != null) {
+      final Throwable first = failures.get(0);
+      if (failures.size() == 1 && first instanceof MojoExecutionException)
+        throw (MojoExecutionException)first;
+
+      final MojoExecutionException e = new MojoExecutionException(failures.size() + " of " + count + " tasks failed, the first of which: " + first.getMessage(), failures.size() == 1 ? first : null);
+      if (failures.size() > 1)
+        for (final Throwable failure : failures) // [L]
+          e.addSuppressed(failure);
+
+      throw e;
+    }
+  }
+
+  /**
+   * Closes this executor, interrupting any tasks that are running, and discarding any that have not started.
+   */
+  @Override
+  public synchronized void close() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService = null;
+    }
+  }
+}
@@ -17,13 +17,29 @@
 package org.openjax.maven.mojo;
 
 import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
 
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+/**
+ * An abstract class extending {@link FilterMojo} for MOJOs that generate files to a destination directory, which is registered as a
+ * compile source root, and provides the following convenience parameters:
+ * <ul>
+ * <li>destDir: The destination directory.</li>
+ * <li>overwrite: Whether existing files should be overwritten. Default: true.</li>
+ * <li>buildCacheDir: The directory of a content-addressed cache of generated output trees, keyed by the digest of the inputs of the
+ * execution, which may be shared by builds. On a hit, the output tree is restored to {@code destDir} without the generator being
+ * run. Only the outputs written with {@link Configuration#getOutputWriter()} are stored. Default: none.</li>
+ * <li>buildCacheMaxSize: The maximum total size of the build cache in megabytes, beyond which the least recently used entries are
+ * evicted. Default: 1024.</li>
+ * </ul>
+ */
 @Mojo(name = "generator")
 public abstract class GeneratorMojo extends FilterMojo {
   public class Configuration extends FilterMojo.Configuration {
@@ -47,6 +63,26 @@ public abstract class GeneratorMojo extends FilterMojo {
     public boolean getOverwrite() {
       return overwrite;
     }
+
+    /**
+     * Returns the {@link OutputWriter} with which to write files to the destination directory, which only writes files whose content
+     * has changed, and deletes the files of the previous execution that are not written by this execution.
+     *
+     * @return The {@link OutputWriter} with which to write files to the destination directory.
+     */
+    public OutputWriter getOutputWriter() {
+      return GeneratorMojo.this.getOutputWriter();
+    }
+
+    /**
+     * Returns the {@link GeneratorExecutor} to which independent tasks, such as the generation of individual files, can be submitted.
+     * All submitted tasks complete before the destination directory is registered as a source root.
+     *
+     * @return The {@link GeneratorExecutor} to which independent tasks can be submitted.
+     */
+    public GeneratorExecutor getExecutor() {
+      return GeneratorMojo.this.getExecutor();
+    }
   }
 
   @Parameter(property = "destDir", required = true)
@@ -55,13 +91,99 @@ public abstract class GeneratorMojo extends FilterMojo {
   @Parameter(property = "overwrite")
   private boolean overwrite = true;
 
+  @Parameter(property = "buildCacheDir")
+  @ExecutionSetting
+  private File buildCacheDir;
+
+  @Parameter(property = "buildCacheMaxSize")
+  @ExecutionSetting
+  private long buildCacheMaxSize = 1024;
+
+  private OutputWriter outputWriter;
+  private GeneratorExecutor executor;
+
+  private synchronized OutputWriter getOutputWriter() {
+    return outputWriter == null ? outputWriter = new OutputWriter(destDir, overwrite, new File(MojoUtil.getStatusDir(getProject(), getExecution()), "outputs.manifest")) : outputWriter;
+  }
+
+  private synchronized GeneratorExecutor getExecutor() {
+    return executor == null ? executor = new GeneratorExecutor(getLog()) : executor;
+  }
+
+  private String getBuildCacheKey() throws MojoExecutionException, MojoFailureException {
+    final MojoExecution execution = getExecution();
+    final MessageDigest digest = Digests.newDigest();
+    Digests.update(digest, execution.getMojoDescriptor().getPluginDescriptor().getId());
+    Digests.update(digest, execution.getGoal());
+    Digests.update(digest, getClass().getName());
+    return digestInputs(digest) ? Digests.toHex(digest.digest()) : null;
+  }
+
+  private boolean restore(final BuildCache buildCache, final String key) {
+    try {
+      final int count = buildCache.restore(key, getOutputWriter());
+      if (count != -1) {
+        getLog().info("Restored " + count + " files from build cache");
+        return true;
+      }
+    }
+    catch (final IOException e) {
+      getLog().warn("Unable to restore outputs from build cache: " + buildCacheDir.getAbsolutePath(), e);
+    }
+
+    outputWriter = null;
+    return false;
+  }
+
   @Override
   public final void execute(final FilterMojo.Configuration configuration) throws MojoExecutionException, MojoFailureException {
     MojoUtil.assertCreateDir("destination", destDir);
 
     getLog().info("Writing files to: " + new File("").getAbsoluteFile().toPath().relativize(destDir.getAbsoluteFile().toPath()).toString());
-    execute(new Configuration(configuration, destDir, overwrite));
+    final BuildCache buildCache = buildCacheDir == null ? null : new BuildCache(buildCacheDir, buildCacheMaxSize * 1024 * 1024);
+    final String key = buildCache == null ? null : getBuildCacheKey();
+    if (key == null || !restore(buildCache, key)) {
+      try {
+        execute(new Configuration(configuration, destDir, overwrite));
+        if (executor != null)
+          executor.await();
+      }
+      finally {
+        if (executor != null)
+          executor.close();
+      }
+
+      // Only the outputs written with the OutputWriter are known to belong to this execution
+      if (key != null) {
+        if (outputWriter == null) {
+          getLog().debug("Outputs are not stored in build cache, because they were not written with the OutputWriter");
+        }
+        else {
+          try {
+            buildCache.store(key, destDir, outputWriter.getPaths());
+          }
+          catch (final IOException e) {
+            getLog().warn("Unable to store outputs in build cache: " + buildCacheDir.getAbsolutePath(), e);
+          }
+        }
+      }
+    }
+
+    if (outputWriter != null) {
+      try {
+        outputWriter.finish();
+      }
+      catch (final IOException e) {
+        throw new MojoExecutionException("Unable to update the outputs of: " + destDir.getAbsolutePath(), e);
+      }
 
+      getLog().info("Wrote " + outputWriter.getWrittenCount() + " files, " + outputWriter.getUnchangedCount() + " unchanged, " + outputWriter.getDeletedCount() + " deleted");
+    }
+
+    addSourceRoot();
+  }
+
+  private void addSourceRoot() {
     final MavenProject project = getProject();
     if (isInTestPhase())
       project.addTestCompileSourceRoot(destDir.getAbsolutePath());
@@ -69,5 +191,14 @@ public abstract class GeneratorMojo extends FilterMojo {
       project.addCompileSourceRoot(destDir.getAbsolutePath());
   }
 
+  /**
+   * Registers the destination directory as a source root, as is otherwise done after the execution.
+   */
+  @Override
+  protected void onUpToDate() throws MojoExecutionException, MojoFailureException {
+    super.onUpToDate();
+    addSourceRoot();
+  }
+
   public abstract void execute(Configuration configuration) throws MojoExecutionException, MojoFailureException;
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Utility functions for the digest of the inputs of a MOJO execution, with which {@link BaseMojo} determines whether an execution is
+ * up-to-date.
+ */
+final class InputDigest {
+  private static final Field[] EMPTY = {};
+
+  private static final byte NULL = 0;
+  private static final byte SCALAR = 1;
+  private static final byte FILE = 2;
+  private static final byte DIRECTORY = 3;
+  private static final byte MISSING = 4;
+  private static final byte COLLECTION = 5;
+  private static final byte MAP = 6;
+  private static final byte OBJECT = 7;
+
+  private static final ClassValue<Field[]> classToFields = new ClassValue<Field[]>() {
+    @Override
+    protected Field[] computeValue(final Class<?> type) {
+      try {
+        final Map<Field,Map<Class<? extends Annotation>,Annotation>> fields = AnnotationUtil.getAnnotatedFields(type, Parameter.class);
+        final ArrayList<Field> parameters = new ArrayList<>(fields.size());
+        for (final Map.Entry<Field,Map<Class<? extends Annotation>,Annotation>> entry : fields.entrySet()) { // [S]
+          final Field field = entry.getKey();
+          if (!((Parameter)entry.getValue().get(Parameter.class)).readonly() && !field.isAnnotationPresent(ExecutionSetting.class)) {
+            field.setAccessible(true);
+            parameters.add(field);
+          }
+        }
+
+        return parameters.toArray(EMPTY);
+      }
+      catch (final IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  };
+
+  /**
+   * Returns the fields of the specified MOJO class that are declared with {@link Parameter}, excluding those that are
+   * {@linkplain Parameter#readonly() read-only} or declared with {@link ExecutionSetting}, in the order of
+   * {@link AnnotationUtil#getAnnotatedFields(Class,Class...)}.
+   *
+   * @param type The MOJO class.
+   * @return The fields of the specified MOJO class that are declared with {@link Parameter}, excluding those that are read-only or
+   *         declared with {@link ExecutionSetting}.
+   * @throws IllegalStateException If the annotations of the class could not be read.
+   * @throws NullPointerException If {@code type} is null.
+   */
+  static Field[] getParameterFields(final Class<?> type) {
+    return classToFields.get(type);
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the specified parameter value. Strings, numbers, booleans, characters and enums
+   * are digested by their string form; {@link File}s by their path and content as per {@link #update(MessageDigest,File,File)};
+   * arrays, {@link Collection}s and {@link Map}s by their members; and other objects by their class name and string form, provided
+   * their class overrides {@link Object#toString()}.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param value The parameter value.
+   * @param basedir The base directory of the project, or {@code null}.
+   * @return {@code false} if the value, or any of its members, is an object whose class does not override
+   *         {@link Object#toString()}, in which case the digest cannot represent the value; otherwise {@code true}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code digest} is null.
+   */
+  static boolean update(final MessageDigest digest, final Object value, final File basedir) throws IOException {
+    if (value == null) {
+      digest.update(NULL);
+    }
+    else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+      digest.update(SCALAR);
+      Digests.update(digest, value.toString());
+    }
+    else if (value instanceof File) {
+      update(digest, (File)value, basedir);
+    }
+    else if (value.getClass().isArray()) {
+      final int i$ = Array.getLength(value);
+      digest.update(COLLECTION);
+      Digests.update(digest, i$);
+      for (int i = 0; i < i$; ++i) // [A]
+        if (!update(digest, Array.get(value, i), basedir))
+          return false;
+    }
+    else if (value instanceof Collection) {
+      final Collection<?> collection = (Collection<?>)value;
+      digest.update(COLLECTION);
+      Digests.update(digest, collection.size());
+      for (final Object member : collection) // [C]
+        if (!update(digest, member, basedir))
+          return false;
+    }
+    else if (value instanceof Map) {
+      final TreeMap<String,Object> sorted = new TreeMap<>();
+      for (final Map.Entry<?,?> entry : ((Map<?,?>)value).entrySet()) // [S]
+        sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+
+      digest.update(MAP);
+      Digests.update(digest, sorted.size());
+      for (final Map.Entry<String,Object> entry : sorted.entrySet()) { // [S]
+        Digests.update(digest, entry.getKey());
+        if (!update(digest, entry.getValue(), basedir))
+          return false;
+      }
+    }
+    else {
+      try {
+        if (value.getClass().getMethod("toString").getDeclaringClass() == Object.class)
+          return false;
+      }
+      catch (final NoSuchMethodException e) {
+        throw new IllegalStateException(e);
+      }
+
+      digest.update(OBJECT);
+      Digests.update(digest, value.getClass().getName());
+      Digests.update(digest, value.toString());
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the path of the specified {@link File} relative to the specified base directory, with {@code '/'} as the name separator,
+   * if the file is within the base directory, or otherwise its absolute path. Inputs are digested by these paths, so that the digest
+   * of an execution does not depend on the location of the project.
+   *
+   * @param file The {@link File}.
+   * @param basedir The base directory, or {@code null} to return the absolute path.
+   * @return The path of the specified {@link File} relative to the specified base directory, or its absolute path.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  static String getPath(final File file, final File basedir) {
+    final String path = file.getAbsolutePath();
+    if (basedir == null)
+      return path;
+
+    final String base = basedir.getAbsolutePath();
+    if (path.equals(base))
+      return ".";
+
+    return path.startsWith(base) && path.charAt(base.length()) == File.separatorChar ? path.substring(base.length() + 1).replace(File.separatorChar, '/') : path;
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the path of the specified {@link File} as per {@link #getPath(File,File)},
+   * followed by its content if it is a regular file, the relative path, size and content of each regular file within it in order of
+   * relative path if it is a directory, or otherwise a marker that it is missing.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param file The {@link File}.
+   * @param basedir The base directory of the project, or {@code null}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code digest} or {@code file} is null.
+   */
+  static void update(final MessageDigest digest, final File file, final File basedir) throws IOException {
+    Digests.update(digest, getPath(file, basedir));
+    if (file.isFile()) {
+      digest.update(FILE);
+      digest.update(Digests.digest(file.toPath()));
+    }
+    else if (file.isDirectory()) {
+      digest.update(DIRECTORY);
+      final Path dir = file.toPath();
+      final TreeMap<String,Path> files = new TreeMap<>();
+      Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(final Path path, final BasicFileAttributes attrs) {
+          if (attrs.isRegularFile())
+            files.put(dir.relativize(path).toString().replace(File.separatorChar, '/'), path);
+
+          return FileVisitResult.CONTINUE;
+        }
+      });
+
+      Digests.update(digest, files.size());
+      for (final Map.Entry<String,Path> entry : files.entrySet()) { // [S]
+        final Path path = entry.getValue();
+        Digests.update(digest, entry.getKey());
+        Digests.update(digest, Files.size(path));
+        digest.update(Digests.digest(path));
+      }
+    }
+    else {
+      digest.update(MISSING);
+    }
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the specified {@link URL}, followed by the content to which it refers. A
+   * {@code file:} URL is digested as its {@link File}.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @param url The {@link URL}.
+   * @param basedir The base directory of the project, or {@code null}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code digest} or {@code url} is null.
+   */
+  static void update(final MessageDigest digest, final URL url, final File basedir) throws IOException {
+    if ("file".equals(url.getProtocol())) {
+      try {
+        update(digest, new File(url.toURI()), basedir);
+        return;
+      }
+      catch (final IllegalArgumentException | URISyntaxException e) {
+      }
+    }
+
+    Digests.update(digest, url.toString());
+    final MessageDigest content = Digests.newDigest();
+    final byte[] buffer = new byte[8192];
+    try (final InputStream in = url.openStream()) {
+      for (int read; (read = in.read(buffer)) != -1;)
+        content.update(buffer, 0, read);
+    }
+
+    digest.update(content.digest());
+  }
+
+  /**
+   * Returns the digest persisted in the specified state file, or {@code null} if the file does not exist.
+   *
+   * @param stateFile The state file.
+   * @return The digest persisted in the specified state file, or {@code null} if the file does not exist.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code stateFile} is null.
+   */
+  static String read(final File stateFile) throws IOException {
+    try {
+      return new String(Files.readAllBytes(stateFile.toPath()), StandardCharsets.UTF_8).trim();
+    }
+    catch (final NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Persists the specified digest to the specified state file, replacing it atomically.
+   *
+   * @param stateFile The state file.
+   * @param digest The digest.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code stateFile} or {@code digest} is null.
+   */
+  static void write(final File stateFile, final String digest) throws IOException {
+    final Path dir = stateFile.getAbsoluteFile().getParentFile().toPath();
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, stateFile.getName(), ".tmp");
+    try {
+      Files.write(temp, digest.getBytes(StandardCharsets.UTF_8));
+      Files.move(temp, stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private InputDigest() {
+  }
+}
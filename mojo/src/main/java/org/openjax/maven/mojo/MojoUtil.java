@@ -28,6 +28,7 @@ import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
@@ -256,6 +257,72 @@ public final class MojoUtil {
     return classpathFiles;
   }
 
+  /**
+   * Returns the list of dependency paths in the specified {@link MavenProject}, as memoized in the scope of the specified
+   * {@link MavenSession}. The returned list is unmodifiable and shared, its entries are normalized absolute paths without duplicates,
+   * and it is recomputed if the dependencies of the project change.
+   *
+   * @param session The {@link MavenSession}.
+   * @param project The {@link MavenProject} for which to return the classpath.
+   * @return The list of dependency paths in the specified {@link MavenProject}.
+   * @throws NullPointerException If {@code session} or {@code project} is null.
+   * @see #getProjectDependencyPaths(MavenProject,ArtifactRepository)
+   */
+  public static List<String> getProjectDependencyPaths(final MavenSession session, final MavenProject project) {
+    return ClasspathService.get(session).getProjectDependencyPaths(project, session.getLocalRepository());
+  }
+
+  /**
+   * Returns the classpath of dependencies for the {@code pluginDescriptor}, as memoized in the scope of the specified
+   * {@link MavenSession}. The returned list is unmodifiable and shared, and its entries are normalized absolute paths without
+   * duplicates.
+   *
+   * @param session The {@link MavenSession}.
+   * @param descriptor The {@link PluginDescriptor}.
+   * @param handler The {@link ArtifactHandler}.
+   * @return The classpath of dependencies for the {@code pluginDescriptor}.
+   * @throws NullPointerException If {@code session}, {@code descriptor}, or {@code handler} is null.
+   * @see #getPluginDependencyClassPath(PluginDescriptor,ArtifactRepository,ArtifactHandler)
+   */
+  public static List<String> getPluginDependencyClassPath(final MavenSession session, final PluginDescriptor descriptor, final ArtifactHandler handler) {
+    return ClasspathService.get(session).getPluginDependencyClassPath(descriptor, session.getLocalRepository(), handler);
+  }
+
+  /**
+   * Returns the classpath entries of the specified MOJO project and execution parameters, as memoized in the scope of the specified
+   * {@link MavenSession} for each project, plugin and test phase. The returned list is unmodifiable and shared, its entries are
+   * normalized absolute paths without duplicates, and it is recomputed if the dependencies or resolved artifacts of the project, or
+   * the dependencies of the plugin, change.
+   *
+   * @param session The {@link MavenSession}.
+   * @param project The {@link MavenProject}.
+   * @param execution The {@link MojoExecution}.
+   * @param descriptor The {@link PluginDescriptor}.
+   * @param handler The {@link ArtifactHandler}.
+   * @return The classpath entries of the specified MOJO project and execution parameters.
+   * @throws DependencyResolutionRequiredException If the specified {@link MavenProject} does not meet dependency resolution
+   *           requirements.
+   * @throws NullPointerException If {@code session}, {@code project}, {@code execution}, {@code descriptor} or {@code handler} is
+   *           null.
+   * @see #getExecutionClasspath(MavenProject,MojoExecution,PluginDescriptor,ArtifactRepository,ArtifactHandler)
+   */
+  public static List<File> getExecutionClasspath(final MavenSession session, final MavenProject project, final MojoExecution execution, final PluginDescriptor descriptor, final ArtifactHandler handler) throws DependencyResolutionRequiredException {
+    return ClasspathService.get(session).getExecutionClasspath(project, execution, descriptor, session.getLocalRepository(), handler);
+  }
+
+  /**
+   * Returns the directory in which the build state of the specified {@link MojoExecution} is persisted, which is
+   * {@code ${project.build.directory}/maven-status/${artifactId}/${goal}/${executionId}}.
+   *
+   * @param project The {@link MavenProject}.
+   * @param execution The {@link MojoExecution}.
+   * @return The directory in which the build state of the specified {@link MojoExecution} is persisted.
+   * @throws NullPointerException If {@code project} or {@code execution} is null.
+   */
+  public static File getStatusDir(final MavenProject project, final MojoExecution execution) {
+    return new File(project.getBuild().getDirectory(), "maven-status" + File.separator + execution.getArtifactId() + File.separator + execution.getGoal() + File.separator + execution.getExecutionId());
+  }
+
   private MojoUtil() {
   }
 }
\ No newline at end of file
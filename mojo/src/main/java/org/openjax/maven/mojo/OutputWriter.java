@@ -0,0 +1,214 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A writer of the output files of a {@link GeneratorMojo}, which only writes files whose content has changed. Content is compared to
+ * that of the existing file by length and SHA-256 digest, and changed files are written to a temporary file that is then moved into
+ * place, so that unchanged files retain their last modified time, and readers never observe a partially written file.
+ * <p>
+ * The paths of written files are recorded in a manifest, which is compared to the manifest of the previous execution once the
+ * execution completes, so that files that are no longer generated are deleted. This class is thread safe.
+ */
+public final class OutputWriter {
+  private final Path destDir;
+  private final boolean overwrite;
+  private final File manifestFile;
+  private final Set<String> paths = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private final AtomicInteger written = new AtomicInteger();
+  private final AtomicInteger unchanged = new AtomicInteger();
+  private int deleted;
+
+  OutputWriter(final File destDir, final boolean overwrite, final File manifestFile) {
+    this.destDir = destDir.getAbsoluteFile().toPath().normalize();
+    this.overwrite = overwrite;
+    this.manifestFile = manifestFile;
+  }
+
+  private Path resolve(final String path) {
+    final Path file = destDir.resolve(path).normalize();
+    if (!file.startsWith(destDir) || file.equals(destDir))
+      throw new IllegalArgumentException("Path is not within " + destDir + ": " + path);
+
+    return file;
+  }
+
+  /**
+   * Writes the specified content to the file at the specified path relative to the destination directory, unless the file exists with
+   * the same content, or exists and {@code overwrite} is not set.
+   *
+   * @param path The path of the file relative to the destination directory.
+   * @param content The content of the file.
+   * @return {@code true} if the file was written, or {@code false} if it was left untouched.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code path} does not resolve to a file within the destination directory.
+   * @throws NullPointerException If {@code path} or {@code content} is null.
+   */
+  public boolean write(final String path, final byte[] content) throws IOException {
+    final Path file = resolve(path);
+    paths.add(destDir.relativize(file).toString().replace(File.separatorChar, '/'));
+    if (Files.isRegularFile(file) && (!overwrite || Files.size(file) == content.length && MessageDigest.isEqual(Digests.digest(file), Digests.newDigest().digest(content)))) {
+      unchanged.incrementAndGet();
+      return false;
+    }
+
+    final Path dir = file.getParent();
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temp, content);
+      try {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+
+    written.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Writes the UTF-8 encoding of the specified content to the file at the specified path relative to the destination directory, unless
+   * the file exists with the same content, or exists and {@code overwrite} is not set.
+   *
+   * @param path The path of the file relative to the destination directory.
+   * @param content The content of the file.
+   * @return {@code true} if the file was written, or {@code false} if it was left untouched.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code path} does not resolve to a file within the destination directory.
+   * @throws NullPointerException If {@code path} or {@code content} is null.
+   */
+  public boolean write(final String path, final CharSequence content) throws IOException {
+    return write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Deletes the files in the manifest of the previous execution that were not written by this execution, along with any directories
+   * that are left empty, and replaces the manifest with the paths written by this execution.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  void finish() throws IOException {
+    final Path manifest = manifestFile.toPath();
+    List<String> previous;
+    try {
+      previous = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+    }
+    catch (final NoSuchFileException e) {
+      previous = Collections.emptyList();
+    }
+
+    for (int i = 0, i$ = previous.size(); i < i$; ++i) { // [RA]
+      final String path = previous.get(i);
+      if (path.length() == 0 || paths.contains(path))
+        continue;
+
+      final Path file;
+      try {
+        file = resolve(path);
+      }
+      catch (final IllegalArgumentException e) {
+        continue;
+      }
+
+      if (Files.deleteIfExists(file)) {
+        ++deleted;
+        for (Path dir = file.getParent(); !dir.equals(destDir); dir = dir.getParent()) {
+          try {
+            if (!Files.deleteIfExists(dir))
+              break;
+          }
+          catch (final DirectoryNotEmptyException e) {
+            break;
+          }
+        }
+      }
+    }
+
+    final ArrayList<String> sorted = new ArrayList<>(paths);
+    Collections.sort(sorted);
+    final Path dir = manifest.toAbsolutePath().getParent();
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, manifest.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temp, sorted, StandardCharsets.UTF_8);
+      Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Returns the paths relative to the destination directory of the files that were written or left untouched by this execution.
+   *
+   * @return The paths relative to the destination directory of the files that were written or left untouched by this execution.
+   */
+  Set<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Returns the number of files that were written.
+   *
+   * @return The number of files that were written.
+   */
+  public int getWrittenCount() {
+    return written.get();
+  }
+
+  /**
+   * Returns the number of files that were left untouched, because they exist with the same content, or exist and {@code overwrite}
+   * is not set.
+   *
+   * @return The number of files that were left untouched.
+   */
+  public int getUnchangedCount() {
+    return unchanged.get();
+  }
+
+  /**
+   * Returns the number of files of the previous execution that were deleted, because they were not written by this execution.
+   *
+   * @return The number of files of the previous execution that were deleted.
+   */
+  public int getDeletedCount() {
+    return deleted;
+  }
+}
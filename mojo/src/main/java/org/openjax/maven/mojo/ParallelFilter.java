@@ -0,0 +1,196 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.libj.util.CollectionUtil;
+
+/**
+ * Filters the values of a set of {@code List<String>} parameters in place, either sequentially, or in parallel on a bounded
+ * {@link ForkJoinPool} if the total number of values is at or above a threshold. The values of all lists are filtered as a single
+ * range, so the work is balanced across parameters as well as across the values of each parameter. The order of each list is
+ * preserved, and in parallel mode all failures are reported together.
+ */
+final class ParallelFilter {
+  /**
+   * A function that filters a single parameter value.
+   */
+  @FunctionalInterface
+  interface Function {
+    String apply(String value) throws IOException, MojoExecutionException;
+  }
+
+  private static final class Pool {
+    private static final ForkJoinPool instance = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  private final class FilterAction extends RecursiveAction {
+    private static final long serialVersionUID = -1452095364702165283L;
+
+    private final int from;
+    private final int to;
+    private final int grain;
+
+    private FilterAction(final int from, final int to, final int grain) {
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grain) {
+        for (int i = from; i < to; ++i) { // [A]
+          try {
+            outputs[i] = owners[i].apply((String)outputs[i]);
+          }
+          catch (final Exception e) {
+            outputs[i] = e;
+          }
+        }
+      }
+      else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new FilterAction(from, mid, grain), new FilterAction(mid, to, grain));
+      }
+    }
+  }
+
+  private final ArrayList<List<String>> lists = new ArrayList<>();
+  private final ArrayList<Function> functions = new ArrayList<>();
+  private int size;
+  private Function[] owners;
+  private Object[] outputs;
+
+  /**
+   * Adds the specified list of values to be filtered in place with the specified {@link Function}.
+   *
+   * @param values The list of values.
+   * @param function The {@link Function} with which to filter the values.
+   * @throws NullPointerException If {@code values} or {@code function} is null.
+   */
+  void add(final List<String> values, final Function function) {
+    size += values.size();
+    lists.add(values);
+    functions.add(function);
+  }
+
+  /**
+   * Returns the total number of values to be filtered.
+   *
+   * @return The total number of values to be filtered.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Filters the values of all added lists in place. If the total number of values is less than {@code threshold}, the values are
+   * filtered sequentially, and the first failure is thrown. Otherwise, the values are filtered in parallel, and if more than one
+   * value fails, a {@link MojoExecutionException} is thrown with each failure added as a suppressed exception, in list order.
+   *
+   * @param threshold The minimum total number of values for which to filter in parallel.
+   * @throws IOException If a value could not be filtered due to an {@link IOException}.
+   * @throws MojoExecutionException If a value could not be filtered, or if more than one value could not be filtered.
+   */
+  void filter(final int threshold) throws IOException, MojoExecutionException {
+    if (size < threshold || size < 2) {
+      for (int i = 0, i$ = lists.size(); i < i$; ++i) { // [RA]
+        final List<String> values = lists.get(i);
+        final Function function = functions.get(i);
+        final int j$ = values.size();
+        if (j$ > 0) {
+          if (CollectionUtil.isRandomAccess(values)) {
+            int j = 0;
+            do // [RA]
+              values.set(j, function.apply(values.get(j)));
+            while (++j < j$);
+          }
+          else {
+            int j = -1;
+            final Iterator<String> it = values.iterator();
+            do // [I]
+              values.set(++j, function.apply(it.next()));
+            while (it.hasNext());
+          }
+        }
+      }
+
+      return;
+    }
+
+    owners = new Function[size];
+    outputs = new Object[size];
+    int index = 0;
+    for (int i = 0, i$ = lists.size(); i < i$; ++i) { // [RA]
+      final Function function = functions.get(i);
+      for (final String value : lists.get(i)) { // [L]
+        owners[index] = function;
+        outputs[index++] = value;
+      }
+    }
+
+    final ForkJoinPool pool = Pool.instance;
+    pool.invoke(new FilterAction(0, size, Math.max(1, size / (pool.getParallelism() * 4))));
+
+    ArrayList<Exception> failures = null;
+    for (final Object output : outputs) { // [A]
+      if (output instanceof Exception) {
+        if (failures == null)
+          failures = new ArrayList<>();
+
+        failures.add((Exception)output);
+      }
+    }
+
+    if (failures != null) {
+      if (failures.size() == 1) {
+        final Exception failure = failures.get(0);
+        if (failure instanceof IOException)
+          throw (IOException)failure;
+
+        if (failure instanceof MojoExecutionException)
+          throw (MojoExecutionException)failure;
+
+        throw (RuntimeException)failure;
+      }
+
+      final MojoExecutionException e = new MojoExecutionException(failures.size() + " of " + size + " parameter values could not be filtered, the first of which: " + failures.get(0).getMessage());
+      for (final Exception failure : failures) // [L]
+        e.addSuppressed(failure);
+
+      throw e;
+    }
+
+    index = 0;
+    for (final List<String> values : lists) { // [L]
+      final ListIterator<String> it = values.listIterator();
+      while (it.hasNext()) {
+        it.next();
+        it.set((String)outputs[index++]);
+      }
+    }
+  }
+}
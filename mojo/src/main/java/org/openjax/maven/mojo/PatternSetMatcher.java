@@ -0,0 +1,262 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link PathMatcher} of the include and exclude patterns of a {@link PatternSetMojo}, which is compiled once and matches relative
+ * paths with exactly the semantics of {@link PatternSetMojo#convertToRegex(String)}. A path matches if it matches any include
+ * pattern and no exclude pattern, so no path matches if there are no include patterns.
+ * <p>
+ * Patterns that are literals, or literals that are preceded by {@code **}{@code /} or {@code **}{@code /*} or followed by
+ * {@code /}{@code **} or {@code /}, are matched as exact, prefix, suffix, or substring comparisons of the path. All other patterns are converted to regular
+ * expressions, which are merged into a single {@link Pattern}.
+ */
+public final class PatternSetMatcher implements PathMatcher {
+  /**
+   * A compiled set of patterns, which matches a path if any of its patterns matches the path.
+   */
+  static final class Patterns {
+    private static final String[] EMPTY = {};
+
+    private static boolean isLiteral(final String pattern) {
+      for (int i = 0, i$ = pattern.length(); i < i$; ++i) {
+        final char ch = pattern.charAt(i);
+        if (ch == '*' || ch == '?' || ch == '\\' || ch == '+' || ch == '|' || ch == '\7')
+          return false;
+      }
+
+      return true;
+    }
+
+    private final HashSet<String> exacts = new HashSet<>();
+    private final String[] prefixes;
+    private final String[] suffixes;
+    private final String[] substrings;
+    private final Pattern pattern;
+    private final Collection<String> sources;
+    private Pattern all;
+
+    private Patterns(final Collection<String> patterns) {
+      this.sources = patterns;
+      final ArrayList<String> prefixes = new ArrayList<>();
+      final ArrayList<String> suffixes = new ArrayList<>();
+      final ArrayList<String> substrings = new ArrayList<>();
+      StringBuilder regex = null;
+      if (patterns != null) {
+        for (final String pattern : patterns) { // [C]
+          final boolean leading = pattern.startsWith("**/");
+          final boolean trailing = pattern.length() > (leading ? 5 : 2) && pattern.endsWith("/**");
+          // A "*" that follows "**/" converts to "[^/\\]*", which the preceding ".*" subsumes, so "**/*.xsd" is the suffix ".xsd"
+          final int start = !leading ? 0 : pattern.length() > 3 && pattern.charAt(3) == '*' ? 4 : 3;
+          final int end = trailing ? pattern.length() - 3 : pattern.length();
+          final String literal = pattern.substring(start, end);
+          if (isLiteral(literal) && (leading || trailing || literal.length() > 0)) {
+            // "**/" and "/**" each convert to ".*", and a trailing "/" converts to "/.*"
+            final boolean open = trailing || literal.endsWith("/");
+            if (leading && open)
+              substrings.add(literal);
+            else if (leading)
+              suffixes.add(literal);
+            else if (open)
+              prefixes.add(literal);
+            else
+              exacts.add(literal);
+          }
+          else {
+            if (regex == null)
+              regex = new StringBuilder();
+            else
+              regex.append('|');
+
+            regex.append("(?:").append(PatternSetMojo.convertToRegex(pattern)).append(')');
+          }
+        }
+      }
+
+      this.prefixes = prefixes.toArray(EMPTY);
+      this.suffixes = suffixes.toArray(EMPTY);
+      this.substrings = substrings.toArray(EMPTY);
+      this.pattern = regex == null ? null : Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Returns whether a path within the directory at the specified relative path can match this set of patterns, which is
+     * {@code false} only if each pattern is a literal or a literal prefix that is not a prefix of, and is not prefixed by, the path of
+     * the directory.
+     *
+     * @param dir The relative path of the directory, ending with the platform-specific name separator.
+     * @return Whether a path within the directory at the specified relative path can match this set of patterns.
+     */
+    boolean canMatchWithin(final String dir) {
+      if (suffixes.length > 0 || substrings.length > 0 || pattern != null)
+        return true;
+
+      for (final String exact : exacts) // [S]
+        if (exact.startsWith(dir))
+          return true;
+
+      for (final String prefix : prefixes) // [A]
+        if (prefix.startsWith(dir) || dir.startsWith(prefix))
+          return true;
+
+      return false;
+    }
+
+    /**
+     * Returns whether every path within the directory at the specified relative path matches this set of patterns, by way of a
+     * literal prefix pattern that is a prefix of the path of the directory, or a substring pattern that is contained in it.
+     *
+     * @param dir The relative path of the directory, ending with the platform-specific name separator.
+     * @return Whether every path within the directory at the specified relative path matches this set of patterns.
+     */
+    boolean matchesAllWithin(final String dir) {
+      for (final String prefix : prefixes) // [A]
+        if (dir.startsWith(prefix))
+          return true;
+
+      for (final String substring : substrings) // [A]
+        if (dir.contains(substring))
+          return true;
+
+      return false;
+    }
+
+    /**
+     * Returns whether every pattern of this set is matched by a literal comparison, rather than by a regular expression.
+     *
+     * @return Whether every pattern of this set is matched by a literal comparison.
+     */
+    boolean isLiteral() {
+      return pattern == null;
+    }
+
+    boolean isEmpty() {
+      return exacts.size() == 0 && prefixes.length == 0 && suffixes.length == 0 && substrings.length == 0 && pattern == null;
+    }
+
+    private static boolean hasLineTerminator(final String path) {
+      for (int i = 0, i$ = path.length(); i < i$; ++i) {
+        final char ch = path.charAt(i);
+        if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029')
+          return true;
+      }
+
+      return false;
+    }
+
+    private synchronized Pattern getAll() {
+      if (all == null) {
+        final StringBuilder regex = new StringBuilder();
+        for (final String pattern : sources) { // [C]
+          if (regex.length() > 0)
+            regex.append('|');
+
+          regex.append("(?:").append(PatternSetMojo.convertToRegex(pattern)).append(')');
+        }
+
+        all = Pattern.compile(regex.toString());
+      }
+
+      return all;
+    }
+
+    boolean matches(final String path) {
+      // The ".*" of a converted pattern does not match line terminators, which the literal comparisons do not account for
+      if (hasLineTerminator(path))
+        return !isEmpty() && getAll().matcher(path).matches();
+
+      if (exacts.contains(path))
+        return true;
+
+      for (final String prefix : prefixes) // [A]
+        if (path.startsWith(prefix))
+          return true;
+
+      for (final String suffix : suffixes) // [A]
+        if (path.endsWith(suffix))
+          return true;
+
+      for (final String substring : substrings) // [A]
+        if (path.contains(substring))
+          return true;
+
+      return pattern != null && pattern.matcher(path).matches();
+    }
+  }
+
+  private final Patterns includes;
+  private final Patterns excludes;
+
+  /**
+   * Creates a new {@link PatternSetMatcher} with the specified include and exclude patterns.
+   *
+   * @param includes The include patterns, or {@code null} for none.
+   * @param excludes The exclude patterns, or {@code null} for none.
+   * @throws java.util.regex.PatternSyntaxException If a pattern converts to an invalid regular expression.
+   * @throws NullPointerException If a member of {@code includes} or {@code excludes} is null.
+   */
+  public PatternSetMatcher(final Collection<String> includes, final Collection<String> excludes) {
+    this.includes = new Patterns(includes);
+    this.excludes = new Patterns(excludes);
+  }
+
+  Patterns getIncludes() {
+    return includes;
+  }
+
+  /**
+   * Returns whether the directory at the specified relative path can be skipped, because no path within it can match an include
+   * pattern, or every path within it matches an exclude pattern.
+   *
+   * @param dir The relative path of the directory, ending with the platform-specific name separator.
+   * @return Whether the directory at the specified relative path can be skipped.
+   * @throws NullPointerException If {@code dir} is null.
+   */
+  boolean canSkip(final String dir) {
+    return !includes.canMatchWithin(dir) || excludes.matchesAllWithin(dir);
+  }
+
+  /**
+   * Returns whether the specified relative path matches any include pattern and no exclude pattern.
+   *
+   * @param path The relative path, with platform-specific name separators.
+   * @return Whether the specified relative path matches any include pattern and no exclude pattern.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public boolean matches(final String path) {
+    return includes.matches(path) && !excludes.matches(path);
+  }
+
+  /**
+   * Returns whether the specified relative path matches any include pattern and no exclude pattern.
+   *
+   * @param path The relative {@link Path}.
+   * @return Whether the specified relative path matches any include pattern and no exclude pattern.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  @Override
+  public boolean matches(final Path path) {
+    return matches(path.toString());
+  }
+}
@@ -18,78 +18,177 @@ package org.openjax.maven.mojo;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.RandomAccess;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+/**
+ * An abstract class extending {@link ResourcesMojo} for MOJOs that operate on the files of the project resources that match a set of
+ * patterns, and provides the following convenience parameters:
+ * <ul>
+ * <li>includes: The patterns of the paths, relative to the project base directory, of the files to include.</li>
+ * <li>excludes: The patterns of the paths, relative to the project base directory, of the files to exclude.</li>
+ * <li>scanParallelism: The number of threads with which resource directories are scanned concurrently, or {@code 1} to scan
+ * sequentially. The files are found in the same order regardless. Default: 1.</li>
+ * <li>fileSetStreaming: Whether the matched files are delivered to {@link Configuration#getFileStream()} through a bounded queue
+ * while resource directories are still being scanned, rather than once the scan is complete. Directories are scanned sequentially
+ * in this mode, and {@code failOnNoOp} is decided at the end of the stream. Default: false.</li>
+ * <li>watch: Whether the MOJO should keep running after its execution, watching the resource directories for changes, and executing
+ * again with only the changed files as {@link Configuration#getFileSets()}, and the changes as the views of the configuration. Class
+ * loaders and annotation metadata are reused across executions. Default: false.</li>
+ * <li>watchDebounce: The period in milliseconds without changes after which a batch of changes is executed in watch mode. Default:
+ * 200.</li>
+ * <li>fileSetDigest: Whether the files are compared to those of the previous execution by their SHA-256 digest, rather than by their
+ * size and last modified time, as is reported by the {@link Configuration#getAdded()}, {@link Configuration#getModified()},
+ * {@link Configuration#getRemoved()} and {@link Configuration#getUnchanged()} views. Default: false.</li>
+ * </ul>
+ */
 @Mojo(name = "patternset")
 public abstract class PatternSetMojo extends ResourcesMojo {
-  private static LinkedHashSet<URI> getFiles(final MavenProject project, final LinkedHashSet<? extends Resource> projectResources, final PatternSetMojo fileSet) throws IOException {
+  private static final int STREAM_CAPACITY = 1024;
+
+  private static ArrayList<File> getDirs(final LinkedHashSet<? extends Resource> projectResources) {
+    final ArrayList<File> dirs = new ArrayList<>(projectResources.size());
+    for (final Resource projectResource : projectResources) { // [S]
+      final File dir = new File(projectResource.getDirectory());
+      if (dir.exists())
+        dirs.add(dir);
+    }
+
+    return dirs;
+  }
+
+  static LinkedHashSet<URI> getFiles(final MavenProject project, final LinkedHashSet<? extends Resource> projectResources, final PatternSetMatcher matcher, final int parallelism) throws IOException {
     final LinkedHashSet<URI> uris = new LinkedHashSet<>();
-    if (projectResources.size() > 0) {
-      for (final Resource projectResource : projectResources) { // [S]
-        final File dir = new File(projectResource.getDirectory());
-        if (dir.exists()) {
-          Files
-            .walk(dir.toPath())
-            .filter(PatternSetMojo.filter(project.getBasedir(), fileSet))
-            .forEach((final Path p) -> uris.add(p.toUri()));
-        }
+    if (projectResources.size() > 0 && !matcher.getIncludes().isEmpty()) {
+      final String basedir = project.getBasedir().getAbsolutePath();
+      final ArrayList<File> dirs = getDirs(projectResources);
+      if (parallelism > 1 && dirs.size() > 0) {
+        FileSetScanner.scan(dirs, basedir, matcher, parallelism, uris);
+      }
+      else {
+        for (int i = 0, i$ = dirs.size(); i < i$; ++i) // [RA]
+          walk(dirs.get(i), basedir, matcher, uris::add);
       }
     }
 
     return uris;
   }
 
-  private static Predicate<Path> filter(final File dir, final PatternSetMojo fileSet) {
-    return (final Path p) -> {
-      final File file = p.toFile();
-      if (!file.isFile())
-        return false;
+  private static void streamFiles(final MavenProject project, final LinkedHashSet<? extends Resource> projectResources, final PatternSetMatcher matcher, final Consumer<URI> sink) throws IOException {
+    if (projectResources.size() == 0 || matcher.getIncludes().isEmpty())
+      return;
 
-      return filter(dir, file, fileSet.getIncludes()) && !filter(dir, file, fileSet.getExcludes());
-    };
-  }
+    final String basedir = project.getBasedir().getAbsolutePath();
+    final ArrayList<File> dirs = getDirs(projectResources);
 
-  private static boolean filter(final File dir, final File pathname, final List<String> filters) {
-    final int i$;
-    if (filters != null && (i$ = filters.size()) > 0) {
-      if (filters instanceof RandomAccess) {
-        int i = 0;
-        do // [RA]
-          if (isMatch(dir, pathname, filters.get(i)))
-            return true;
-        while (++i < i$);
-      }
-      else {
-        final Iterator<String> i = filters.iterator();
-        do // [I]
-          if (isMatch(dir, pathname, i.next()))
-            return true;
-        while (i.hasNext());
+    // Files are only delivered more than once if a directory is within another, in which case duplicates are filtered
+    Consumer<URI> distinct = sink;
+    for (int i = 0, i$ = dirs.size(); i < i$ && distinct == sink; ++i) { // [RA]
+      final String a = dirs.get(i).getAbsolutePath() + File.separator;
+      for (int j = 0; j < i$; ++j) {
+        if (i != j && (dirs.get(j).getAbsolutePath() + File.separator).startsWith(a)) {
+          final HashSet<URI> seen = new HashSet<>();
+          distinct = uri -> {
+            if (seen.add(uri))
+              sink.accept(uri);
+          };
+          break;
+        }
       }
     }
 
-    return false;
+    for (int i = 0, i$ = dirs.size(); i < i$; ++i) // [RA]
+      walk(dirs.get(i), basedir, matcher, distinct);
+  }
+
+  /**
+   * Returns the path of the specified directory relative to the specified base directory, ending with the platform-specific name
+   * separator, or {@code null} if the directory is not within the base directory.
+   *
+   * @param dir The directory.
+   * @param basedir The absolute path of the base directory.
+   * @return The path of the specified directory relative to the specified base directory, or {@code null} if the directory is not
+   *         within the base directory.
+   */
+  static String getRelativePath(final File dir, final String basedir) {
+    final String path = dir.getAbsolutePath();
+    return path.equals(basedir) ? "" : path.startsWith(basedir) && path.charAt(basedir.length()) == File.separatorChar ? path.substring(basedir.length() + 1) + File.separator : null;
   }
 
-  private static boolean isMatch(final File dir, final File pathname, final String filter) {
-    return pathname.getAbsolutePath().substring(dir.getAbsolutePath().length() + 1).matches(filter);
+  private static void walk(final File dir, final String basedir, final PatternSetMatcher matcher, final Consumer<URI> sink) throws IOException {
+    // Relative paths are built incrementally if the directory is within the basedir, and otherwise are computed as the substring of
+    // the absolute path beyond the length of the basedir, in which case no directories are skipped
+    final String root = getRelativePath(dir, basedir);
+    final ArrayDeque<String> dirs = new ArrayDeque<>();
+    Files.walkFileTree(dir.toPath(), new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(final Path d, final BasicFileAttributes attrs) {
+        if (root == null)
+          return FileVisitResult.CONTINUE;
+
+        if (dirs.size() == 0) {
+          dirs.push(root);
+          return FileVisitResult.CONTINUE;
+        }
+
+        final String relative = dirs.peek() + d.getFileName() + File.separator;
+        if (matcher.canSkip(relative))
+          return FileVisitResult.SKIP_SUBTREE;
+
+        dirs.push(relative);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+        if (attrs.isRegularFile() || attrs.isSymbolicLink() && Files.isRegularFile(file)) {
+          final String relative = root != null && dirs.size() > 0 ? dirs.peek() + file.getFileName() : file.toFile().getAbsolutePath().substring(basedir.length() + 1);
+          if (matcher.matches(relative))
+            sink.accept(file.toUri());
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(final Path d, final IOException e) throws IOException {
+        if (e != null)
+          throw e;
+
+        if (root != null)
+          dirs.pop();
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
   }
 
   static String convertToRegex(final String pattern) {
@@ -118,13 +217,15 @@ public abstract class PatternSetMojo extends ResourcesMojo {
     return ch == '/' || ch == '\\' ? regex + ".*" : regex;
   }
 
-  private static void convertToRegex(final List<String> list) {
-    final int i$;
-    if (list != null && (i$ = list.size()) > 0) {
-      final Iterator<String> iterator = list.iterator();
-      for (int i = 0; i < i$; ++i) // [I]
-        list.set(i, convertToRegex(iterator.next()));
-    }
+  private static LinkedHashSet<String> convertToRegex(final List<String> list) {
+    if (list == null)
+      return null;
+
+    final LinkedHashSet<String> regexes = new LinkedHashSet<>();
+    for (final String pattern : list) // [L]
+      regexes.add(convertToRegex(pattern));
+
+    return regexes;
   }
 
   public class Configuration extends ResourcesMojo.Configuration {
@@ -138,13 +239,43 @@ public abstract class PatternSetMojo extends ResourcesMojo {
 
     private Configuration(final ResourcesMojo.Configuration configuration, final LinkedHashSet<URI> fileSets, final LinkedHashSet<String> includes, final LinkedHashSet<String> excludes) {
       super(configuration);
-      this.fileSets = Objects.requireNonNull(fileSets);
+      this.fileSets = fileSets;
       this.includes = includes;
       this.excludes = excludes;
     }
 
+    /**
+     * Returns the matched files. In streaming mode, the files are collected from the stream, unless it has already been consumed.
+     *
+     * @return The matched files.
+     * @throws IllegalStateException If the files have been consumed with {@link #getFileStream()}.
+     * @throws java.io.UncheckedIOException If, in streaming mode, the scan of the files has failed.
+     */
     public LinkedHashSet<URI> getFileSets() {
-      return fileSets;
+      return fileSets != null ? fileSets : PatternSetMojo.this.getFileSets();
+    }
+
+    /**
+     * Returns a {@link Stream} of the matched files. In streaming mode, the files are delivered while the scan is still running, and
+     * the stream can only be consumed once, unless the files have been collected with {@link #getFileSets()}.
+     *
+     * @return A {@link Stream} of the matched files.
+     * @throws IllegalStateException If the stream has already been consumed.
+     */
+    public Stream<URI> getFileStream() {
+      return fileSets != null ? fileSets.stream() : PatternSetMojo.this.getFileStream();
+    }
+
+    /**
+     * Returns an unmodifiable map of each file of {@link #getFileSets()} to the SHA-256 digest of its content. The digests are computed
+     * in parallel on first request, and are memoized for the size and last modified time of each file across the executions of the
+     * session.
+     *
+     * @return An unmodifiable map of each file of {@link #getFileSets()} to the SHA-256 digest of its content.
+     * @throws MojoExecutionException If a file could not be read.
+     */
+    public Map<URI,byte[]> getDigests() throws MojoExecutionException {
+      return PatternSetMojo.this.getDigests();
     }
 
     public LinkedHashSet<String> getIncludes() {
@@ -154,53 +285,335 @@ public abstract class PatternSetMojo extends ResourcesMojo {
     public LinkedHashSet<String> getExcludes() {
       return excludes;
     }
-  }
 
-  private boolean converted;
+    /**
+     * Returns the files of {@link #getFileSets()} that were not matched by the previous execution, which are all files if there is no
+     * snapshot of the previous execution.
+     *
+     * @return The files of {@link #getFileSets()} that were not matched by the previous execution.
+     * @throws MojoExecutionException If the files could not be read.
+     * @see #isIncremental()
+     */
+    public Set<URI> getAdded() throws MojoExecutionException {
+      return getDiff().getAdded();
+    }
 
-  private void convert() {
-    if (!converted) {
-      convertToRegex(includes);
-      convertToRegex(excludes);
-      converted = true;
+    /**
+     * Returns the files of {@link #getFileSets()} that have been modified since the previous execution.
+     *
+     * @return The files of {@link #getFileSets()} that have been modified since the previous execution.
+     * @throws MojoExecutionException If the files could not be read.
+     */
+    public Set<URI> getModified() throws MojoExecutionException {
+      return getDiff().getModified();
+    }
+
+    /**
+     * Returns the files that were matched by the previous execution, but are not in {@link #getFileSets()}.
+     *
+     * @return The files that were matched by the previous execution, but are not in {@link #getFileSets()}.
+     * @throws MojoExecutionException If the files could not be read.
+     */
+    public Set<URI> getRemoved() throws MojoExecutionException {
+      return getDiff().getRemoved();
+    }
+
+    /**
+     * Returns the files of {@link #getFileSets()} that are unchanged since the previous execution.
+     *
+     * @return The files of {@link #getFileSets()} that are unchanged since the previous execution.
+     * @throws MojoExecutionException If the files could not be read.
+     */
+    public Set<URI> getUnchanged() throws MojoExecutionException {
+      return getDiff().getUnchanged();
+    }
+
+    /**
+     * Returns whether the views of this configuration are relative to a snapshot of the previous execution, which is not the case if
+     * there was no previous execution, or if its patterns or configuration differ from those of this execution.
+     *
+     * @return Whether the views of this configuration are relative to a snapshot of the previous execution.
+     * @throws MojoExecutionException If the files could not be read.
+     */
+    public boolean isIncremental() throws MojoExecutionException {
+      return getDiff().isIncremental();
     }
   }
 
   @Parameter(property = "includes")
   private List<String> includes;
 
-  private List<String> getIncludes() {
-    convert();
-    return includes;
-  }
-
   @Parameter(property = "excludes")
   private List<String> excludes;
 
-  private List<String> getExcludes() {
-    convert();
-    return excludes;
+  @Parameter(property = "scanParallelism")
+  @ExecutionSetting
+  private int scanParallelism = 1;
+
+  @Parameter(property = "fileSetDigest")
+  private boolean fileSetDigest = false;
+
+  @Parameter(property = "fileSetStreaming")
+  @ExecutionSetting
+  private boolean fileSetStreaming = false;
+
+  @Parameter(property = "watch")
+  @ExecutionSetting
+  private boolean watch = false;
+
+  @Parameter(property = "watchDebounce")
+  @ExecutionSetting
+  private long watchDebounce = 200;
+
+  private LinkedHashSet<URI> fileSets;
+  private LinkedHashSet<URI> scanned;
+  private FileSetStream stream;
+  private boolean streamed;
+
+  private synchronized LinkedHashSet<URI> getFileSets() {
+    if (fileSets == null) {
+      if (streamed)
+        throw new IllegalStateException("Files have already been streamed");
+
+      final LinkedHashSet<URI> uris = new LinkedHashSet<>();
+      stream.forEachRemaining(uris::add);
+      fileSets = uris;
+    }
+
+    return fileSets;
+  }
+
+  private synchronized Stream<URI> getFileStream() {
+    if (fileSets != null)
+      return fileSets.stream();
+
+    if (streamed)
+      throw new IllegalStateException("Files have already been streamed");
+
+    streamed = true;
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(stream, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+  }
+  private Map<URI,byte[]> digests;
+
+  private synchronized Map<URI,byte[]> getDigests() throws MojoExecutionException {
+    if (digests == null) {
+      try {
+        digests = FileDigests.get(getSession()).digest(getFileSets());
+      }
+      catch (final IOException e) {
+        throw new MojoExecutionException(e.getMessage(), e);
+      }
+    }
+
+    return digests;
+  }
+
+  private FileSetSnapshot snapshot;
+  private FileSetSnapshot.Diff diff;
+
+  private File getSnapshotFile() {
+    return new File(MojoUtil.getStatusDir(getProject(), getExecution()), "fileset.snapshot");
+  }
+
+  private synchronized FileSetSnapshot.Diff getDiff() throws MojoExecutionException {
+    if (diff == null) {
+      final MojoExecution execution = getExecution();
+      final MessageDigest digest = Digests.newDigest();
+      Digests.update(digest, execution.getMojoDescriptor().getPluginDescriptor().getId());
+      Digests.update(digest, String.valueOf(execution.getConfiguration()));
+      Digests.update(digest, String.valueOf(includes));
+      Digests.update(digest, String.valueOf(excludes));
+      Digests.update(digest, String.valueOf(fileSetDigest));
+      final String key = Digests.toHex(digest.digest());
+      final FileSetSnapshot previous = FileSetSnapshot.read(getSnapshotFile(), key);
+      try {
+        snapshot = FileSetSnapshot.of(getFileSets(), key, fileSetDigest, previous);
+      }
+      catch (final IOException e) {
+        throw new MojoExecutionException(e.getMessage(), e);
+      }
+
+      diff = snapshot.diff(previous);
+    }
+
+    return diff;
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the inputs of this {@link org.apache.maven.plugin.Mojo}, which, in addition to
+   * those digested by {@link ResourcesMojo#digestInputs(MessageDigest)}, include the includes and excludes, and the path relative to
+   * the base directory, size and content digest of each matched file. The matched files are reused by the execution that follows.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @return {@code false} if the inputs cannot be represented by the digest, in which case the execution is never skipped; otherwise
+   *         {@code true}.
+   * @throws MojoExecutionException If the matched files could not be read.
+   * @throws MojoFailureException If an expected problem occurs.
+   */
+  @Override
+  protected boolean digestInputs(final MessageDigest digest) throws MojoExecutionException, MojoFailureException {
+    if (!super.digestInputs(digest))
+      return false;
+
+    Digests.update(digest, String.valueOf(includes));
+    Digests.update(digest, String.valueOf(excludes));
+    final File basedir = getProject().getBasedir();
+    try {
+      final LinkedHashSet<URI> files = getFiles(getProject(), getResources(), new PatternSetMatcher(includes, excludes), scanParallelism);
+      final Map<URI,byte[]> digests = FileDigests.get(getSession()).digest(files);
+      Digests.update(digest, digests.size());
+      for (final Map.Entry<URI,byte[]> entry : digests.entrySet()) { // [S]
+        final File file = new File(entry.getKey());
+        Digests.update(digest, InputDigest.getPath(file, basedir));
+        Digests.update(digest, file.length());
+        digest.update(entry.getValue());
+      }
+
+      synchronized (this) {
+        scanned = files;
+      }
+    }
+    catch (final IOException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+
+    return true;
   }
 
   @Override
   public final void execute(final ResourcesMojo.Configuration configuration) throws MojoExecutionException, MojoFailureException {
     try {
       final Map<String,Object> filterParameters = getFilterParameters();
-      final LinkedHashSet<URI> fileSets = getFiles(getProject(), configuration.getResources(), this);
-      if (fileSets.size() == 0 && (filterParameters == null || filterParameters.isEmpty())) {
-        if (configuration.getFailOnNoOp())
-          throw new MojoExecutionException("Empty input parameters (failOnNoOp=true)");
+      final PatternSetMatcher matcher = new PatternSetMatcher(includes, excludes);
+      final LinkedHashSet<URI> scanned;
+      synchronized (this) {
+        scanned = this.scanned;
+        this.scanned = null;
+      }
+
+      // The files that were scanned for the digest of the inputs are not scanned again
+      if (fileSetStreaming && scanned == null) {
+        // The files are delivered while the scan is running, so whether the inputs are empty is only known at the end of the stream
+        try (final FileSetStream stream = new FileSetStream(STREAM_CAPACITY, sink -> streamFiles(getProject(), configuration.getResources(), matcher, sink))) {
+          this.stream = stream;
+          execute(new Configuration(configuration, null, convertToRegex(includes), convertToRegex(excludes)));
+          if (stream.getError() != null)
+            throw stream.getError();
+
+          if (stream.isEmpty() && (filterParameters == null || filterParameters.isEmpty())) {
+            if (configuration.getFailOnNoOp())
+              throw new MojoExecutionException("Empty input parameters (failOnNoOp=true)");
 
-        getLog().info("Skipping for empty input parameters.");
-        return;
+            getLog().info("Empty input parameters.");
+            return;
+          }
+        }
+        catch (final UncheckedIOException e) {
+          throw e.getCause();
+        }
+      }
+      else {
+        final LinkedHashSet<URI> fileSets = scanned != null ? scanned : getFiles(getProject(), configuration.getResources(), matcher, scanParallelism);
+        if (fileSets.size() == 0 && (filterParameters == null || filterParameters.isEmpty())) {
+          if (configuration.getFailOnNoOp())
+            throw new MojoExecutionException("Empty input parameters (failOnNoOp=true)");
+
+          getLog().info("Skipping for empty input parameters.");
+          return;
+        }
+
+        this.fileSets = fileSets;
+        execute(new Configuration(configuration, fileSets, convertToRegex(includes), convertToRegex(excludes)));
       }
 
-      execute(new Configuration(configuration, fileSets, getIncludes() == null ? null : new LinkedHashSet<>(getIncludes()), getExcludes() == null ? null : new LinkedHashSet<>(getExcludes())));
+      writeSnapshot();
+      if (watch)
+        watch(configuration, matcher);
     }
     catch (final DependencyResolutionRequiredException | IOException e) {
       throw new MojoFailureException(e.getMessage(), e);
     }
   }
 
+  private void writeSnapshot() {
+    if (snapshot != null) {
+      final File snapshotFile = getSnapshotFile();
+      try {
+        snapshot.write(snapshotFile);
+      }
+      catch (final IOException e) {
+        getLog().warn("Unable to write file set snapshot: " + snapshotFile.getAbsolutePath(), e);
+      }
+    }
+  }
+
+  private void watch(final ResourcesMojo.Configuration configuration, final PatternSetMatcher matcher) throws IOException {
+    final ArrayList<File> dirs = getDirs(configuration.getResources());
+    if (dirs.size() == 0 || matcher.getIncludes().isEmpty()) {
+      getLog().info("Nothing to watch (watch=true)");
+      return;
+    }
+
+    final String basedir = getProject().getBasedir().getAbsolutePath();
+    try (final FileSetWatcher watcher = new FileSetWatcher(dirs, basedir, matcher)) {
+      getLog().info("Watching " + watcher.size() + " directories for changes (watch=true)");
+      while (true) {
+        final LinkedHashMap<Path,FileSetWatcher.Change> changes = watcher.await(watchDebounce);
+        final LinkedHashSet<URI> fileSets;
+        final FileSetSnapshot.Diff diff;
+        if (changes == null) {
+          getLog().info("Changes were lost, rescanning");
+          watcher.rescan();
+          fileSets = getFiles(getProject(), configuration.getResources(), matcher, scanParallelism);
+          diff = null;
+        }
+        else {
+          final LinkedHashSet<URI> added = new LinkedHashSet<>();
+          final LinkedHashSet<URI> modified = new LinkedHashSet<>();
+          final LinkedHashSet<URI> removed = new LinkedHashSet<>();
+          for (final Map.Entry<Path,FileSetWatcher.Change> entry : changes.entrySet()) { // [S]
+            final Path path = entry.getKey();
+            final FileSetWatcher.Change change = entry.getValue();
+            if (!matcher.matches(path.toFile().getAbsolutePath().substring(basedir.length() + 1)))
+              continue;
+
+            if (change == FileSetWatcher.Change.REMOVED)
+              removed.add(path.toUri());
+            else if (Files.isRegularFile(path))
+              (change == FileSetWatcher.Change.ADDED ? added : modified).add(path.toUri());
+          }
+
+          if (added.size() == 0 && modified.size() == 0 && removed.size() == 0)
+            continue;
+
+          getLog().info("Detected changes: " + added.size() + " added, " + modified.size() + " modified, " + removed.size() + " removed");
+          fileSets = new LinkedHashSet<>(added);
+          fileSets.addAll(modified);
+          diff = new FileSetSnapshot.Diff(added, modified, removed, new LinkedHashSet<>(), true);
+        }
+
+        synchronized (this) {
+          this.fileSets = fileSets;
+          this.stream = null;
+          this.streamed = false;
+          this.snapshot = null;
+          this.diff = diff;
+          this.digests = null;
+        }
+
+        try {
+          execute(new Configuration(configuration, fileSets, convertToRegex(includes), convertToRegex(excludes)));
+          writeSnapshot();
+        }
+        catch (final MojoExecutionException | MojoFailureException | RuntimeException e) {
+          getLog().error(e.getMessage(), e);
+        }
+      }
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   public abstract void execute(Configuration configuration) throws MojoExecutionException, MojoFailureException;
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * An index of resource names to the position of the first archive on a classpath that contains the resource, which is used to
+ * resolve resources of a {@link java.net.URLClassLoader} without probing each of its classpath entries in turn.
+ * <p>
+ * The central directories of the archives are read in parallel when the index is built. Directories on the classpath are not
+ * indexed, because their contents may change between executions in a session (such as {@code target/classes}), and are instead
+ * probed with a single {@link File#exists()} for each directory that precedes the first archive containing the resource. The
+ * resolved {@link URL}s are therefore identical to those returned by {@link java.net.URLClassLoader#findResource(String)}.
+ */
+final class ResourceIndex {
+  private static final String MULTI_RELEASE = "META-INF/versions/";
+  private static final String INDEX_LIST = "META-INF/INDEX.LIST";
+  private static final HashSet<String> UNINDEXABLE = new HashSet<>();
+
+  /**
+   * Returns whether the specified resource name can be resolved by the index, which is the case for names that
+   * {@link java.net.URLClassLoader} does not percent-encode, and that cannot escape their classpath entry.
+   *
+   * @param name The resource name.
+   * @return Whether the specified resource name can be resolved by the index.
+   */
+  static boolean isIndexable(final String name) {
+    final int len = name.length();
+    if (len == 0 || name.charAt(0) == '/' || name.contains("..") || name.contains("//"))
+      return false;
+
+    for (int i = 0; i < len; ++i) {
+      final char ch = name.charAt(i);
+      if ((ch < 'a' || 'z' < ch) && (ch < 'A' || 'Z' < ch) && (ch < '0' || '9' < ch) && ch != '/' && ch != '.' && ch != '-' && ch != '_')
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns a new {@link ResourceIndex} of the specified classpath, or {@code null} if the classpath contains entries whose lookup
+   * semantics the index cannot reproduce exactly, such as non-{@code file:} URLs, multi-release archives, archives with a
+   * {@code META-INF/INDEX.LIST}, or archives whose manifest declares a {@code Class-Path}, which {@link java.net.URLClassLoader}
+   * follows.
+   *
+   * @param urls The {@link URL}s of the classpath, in the form provided to the {@link java.net.URLClassLoader}.
+   * @return A new {@link ResourceIndex} of the specified classpath, or {@code null} if the classpath cannot be indexed.
+   * @throws NullPointerException If {@code urls} or any member of {@code urls} is null.
+   */
+  static ResourceIndex build(final URL[] urls) {
+    final int len = urls.length;
+    final File[] files = new File[len];
+    final boolean[] isDirectory = new boolean[len];
+    for (int i = 0; i < len; ++i) { // [A]
+      final URL url = urls[i];
+      final String path = url.getPath();
+      if (!"file".equals(url.getProtocol()) || path.indexOf('%') > -1 || url.getQuery() != null || url.getRef() != null)
+        return null;
+
+      files[i] = new File(path);
+      isDirectory[i] = path.endsWith("/");
+    }
+
+    final List<HashSet<String>> names;
+    try {
+      names = IntStream.range(0, len).parallel().mapToObj(i -> isDirectory[i] || !files[i].isFile() ? null : readNames(files[i])).collect(Collectors.toList());
+    }
+    catch (final UncheckedIOException e) {
+      return null;
+    }
+
+    final HashMap<String,Integer> nameToArchive = new HashMap<>();
+    for (int i = 0; i < len; ++i) { // [RA]
+      final HashSet<String> archiveNames = names.get(i);
+      if (archiveNames == null)
+        continue;
+
+      if (archiveNames == UNINDEXABLE || archiveNames.contains(INDEX_LIST))
+        return null;
+
+      final Integer position = i;
+      for (final String name : archiveNames) { // [S]
+        if (name.startsWith(MULTI_RELEASE))
+          return null;
+
+        nameToArchive.putIfAbsent(name, position);
+      }
+    }
+
+    return new ResourceIndex(urls, files, isDirectory, nameToArchive);
+  }
+
+  private static HashSet<String> readNames(final File file) {
+    try (final JarFile jarFile = new JarFile(file, false)) {
+      final Manifest manifest = jarFile.getManifest();
+      if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null)
+        return UNINDEXABLE;
+
+      final HashSet<String> names = new HashSet<>(jarFile.size() * 2);
+      final Enumeration<? extends ZipEntry> entries = jarFile.entries();
+      while (entries.hasMoreElements()) {
+        final String name = entries.nextElement().getName();
+        names.add(name);
+        // ZipFile.getEntry(String) matches a directory entry by its name without the trailing slash
+        if (name.endsWith("/"))
+          names.add(name.substring(0, name.length() - 1));
+      }
+
+      return names;
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private final URL[] urls;
+  private final File[] files;
+  private final boolean[] isDirectory;
+  private final HashMap<String,Integer> nameToArchive;
+  private final URL[] bases;
+
+  private ResourceIndex(final URL[] urls, final File[] files, final boolean[] isDirectory, final HashMap<String,Integer> nameToArchive) {
+    this.urls = urls;
+    this.files = files;
+    this.isDirectory = isDirectory;
+    this.nameToArchive = nameToArchive;
+    this.bases = new URL[urls.length];
+  }
+
+  private URL getBase(final int position) throws MalformedURLException {
+    URL base = bases[position];
+    if (base == null)
+      bases[position] = base = isDirectory[position] ? urls[position] : new URL("jar:" + urls[position] + "!/");
+
+    return base;
+  }
+
+  /**
+   * Returns the {@link URL} of the resource with the specified name in the first classpath entry that contains it, or {@code null}
+   * if no entry contains the resource. The specified name must be {@linkplain #isIndexable(String) indexable}.
+   *
+   * @param name The resource name.
+   * @return The {@link URL} of the resource with the specified name in the first classpath entry that contains it, or {@code null}
+   *         if no entry contains the resource.
+   * @throws MalformedURLException If the {@link URL} of the resource cannot be created.
+   */
+  URL findResource(final String name) throws MalformedURLException {
+    final Integer archive = nameToArchive.get(name);
+    final int limit = archive != null ? archive : urls.length;
+    for (int i = 0; i < limit; ++i) // [A]
+      if (isDirectory[i] && new File(files[i], name).exists())
+        return new URL(getBase(i), name);
+
+    return archive == null ? null : new URL(getBase(archive), name);
+  }
+}
@@ -16,6 +16,8 @@
 
 package org.openjax.maven.mojo;
 
+import java.io.File;
+import java.security.MessageDigest;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -62,6 +64,40 @@ public abstract class ResourcesMojo extends FilterMojo {
   @Parameter(defaultValue = "${project.testResources}", required = true, readonly = true)
   private List<Resource> testResources;
 
+  LinkedHashSet<Resource> getResources() {
+    return CollectionUtil.concat(new LinkedHashSet<>(), mainResources, testResources);
+  }
+
+  /**
+   * Updates the specified {@link MessageDigest} with the inputs of this {@link org.apache.maven.plugin.Mojo}, which, in addition to
+   * those digested by {@link FilterMojo#digestInputs(MessageDigest)}, include the directory, target path, filtering, includes and
+   * excludes of each main and test resource.
+   *
+   * @param digest The {@link MessageDigest}.
+   * @return {@code false} if the inputs cannot be represented by the digest, in which case the execution is never skipped; otherwise
+   *         {@code true}.
+   * @throws MojoExecutionException If an unexpected problem occurs.
+   * @throws MojoFailureException If an expected problem occurs.
+   */
+  @Override
+  protected boolean digestInputs(final MessageDigest digest) throws MojoExecutionException, MojoFailureException {
+    if (!super.digestInputs(digest))
+      return false;
+
+    final File basedir = getProject().getBasedir();
+    final LinkedHashSet<Resource> resources = getResources();
+    Digests.update(digest, resources.size());
+    for (final Resource resource : resources) { // [S]
+      Digests.update(digest, resource.getDirectory() == null ? null : InputDigest.getPath(new File(resource.getDirectory()), basedir));
+      Digests.update(digest, resource.getTargetPath());
+      Digests.update(digest, resource.getFiltering());
+      Digests.update(digest, String.valueOf(resource.getIncludes()));
+      Digests.update(digest, String.valueOf(resource.getExcludes()));
+    }
+
+    return true;
+  }
+
   @Override
   public final void execute(final FilterMojo.Configuration configuration) throws MojoExecutionException, MojoFailureException {
     if (mainResources.size() == 0 && testResources.size() == 0) {
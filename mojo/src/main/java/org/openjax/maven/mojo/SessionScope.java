@@ -0,0 +1,224 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * A registry of {@link AutoCloseable} resources that are scoped to a {@link MavenSession}. Resources are shared by all MOJO executions
+ * of a session, and are closed when the session ends, as signaled to the {@link ExecutionListener} of its request, or otherwise once a
+ * new session is observed.
+ * <p>
+ * Sessions are identified by their {@link MavenExecutionRequest}, because a {@link MavenSession} is cloned for each project in a
+ * multithreaded reactor build.
+ */
+final class SessionScope {
+  /**
+   * An {@link ExecutionListener} that closes the resources of its request when the session ends, and otherwise delegates to the
+   * listener that it replaces.
+   */
+  private static final class SessionEndListener implements ExecutionListener {
+    private final MavenExecutionRequest request;
+    private final ExecutionListener delegate;
+
+    private SessionEndListener(final MavenExecutionRequest request, final ExecutionListener delegate) {
+      this.request = request;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void projectDiscoveryStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.projectDiscoveryStarted(event);
+    }
+
+    @Override
+    public void sessionStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.sessionStarted(event);
+    }
+
+    @Override
+    public void sessionEnded(final ExecutionEvent event) {
+      try {
+        if (delegate != null)
+          delegate.sessionEnded(event);
+      }
+      finally {
+        close(request);
+      }
+    }
+
+    @Override
+    public void projectSkipped(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.projectSkipped(event);
+    }
+
+    @Override
+    public void projectStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.projectStarted(event);
+    }
+
+    @Override
+    public void projectSucceeded(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.projectSucceeded(event);
+    }
+
+    @Override
+    public void projectFailed(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.projectFailed(event);
+    }
+
+    @Override
+    public void mojoSkipped(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.mojoSkipped(event);
+    }
+
+    @Override
+    public void mojoStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.mojoStarted(event);
+    }
+
+    @Override
+    public void mojoSucceeded(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.mojoSucceeded(event);
+    }
+
+    @Override
+    public void mojoFailed(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.mojoFailed(event);
+    }
+
+    @Override
+    public void forkStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkStarted(event);
+    }
+
+    @Override
+    public void forkSucceeded(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkSucceeded(event);
+    }
+
+    @Override
+    public void forkFailed(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkFailed(event);
+    }
+
+    @Override
+    public void forkedProjectStarted(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkedProjectStarted(event);
+    }
+
+    @Override
+    public void forkedProjectSucceeded(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkedProjectSucceeded(event);
+    }
+
+    @Override
+    public void forkedProjectFailed(final ExecutionEvent event) {
+      if (delegate != null)
+        delegate.forkedProjectFailed(event);
+    }
+  }
+
+  private static final LinkedHashMap<Object,AutoCloseable> keyToResource = new LinkedHashMap<>();
+  private static WeakReference<MavenExecutionRequest> request;
+
+  /**
+   * Returns the resource for the specified key in the scope of {@code session}, which is created with {@code supplier} if absent. If
+   * {@code session} differs from the session of the previous invocation, all resources of the previous session are closed first, and
+   * the resources of {@code session} are closed when it ends.
+   *
+   * @param <T> The type parameter of the resource.
+   * @param session The {@link MavenSession}.
+   * @param key The key of the resource.
+   * @param supplier The {@link Supplier} of the resource, if absent.
+   * @return The resource for the specified key in the scope of {@code session}.
+   * @throws NullPointerException If {@code session}, {@code key}, or {@code supplier} is null.
+   */
+  @SuppressWarnings("unchecked")
+  static synchronized <T extends AutoCloseable> T get(final MavenSession session, final Object key, final Supplier<T> supplier) {
+    final MavenExecutionRequest current = session.getRequest();
+    if (request == null || request.get() != current) {
+      close();
+      request = new WeakReference<>(current);
+      if (!(current.getExecutionListener() instanceof SessionEndListener))
+        current.setExecutionListener(new SessionEndListener(current, current.getExecutionListener()));
+    }
+
+    T resource = (T)keyToResource.get(key);
+    if (resource == null)
+      keyToResource.put(key, resource = supplier.get());
+
+    return resource;
+  }
+
+  /**
+   * Closes and removes all resources, if they are in the scope of the specified {@link MavenExecutionRequest}.
+   *
+   * @param ended The {@link MavenExecutionRequest} of the session that has ended.
+   */
+  private static synchronized void close(final MavenExecutionRequest ended) {
+    if (request != null && request.get() == ended) {
+      close();
+      request = null;
+    }
+  }
+
+  /**
+   * Closes and removes all resources, in the reverse order of their creation. Exceptions thrown by {@link AutoCloseable#close()} are
+   * ignored.
+   */
+  static synchronized void close() {
+    if (keyToResource.size() == 0)
+      return;
+
+    final ArrayList<AutoCloseable> resources = new ArrayList<>(keyToResource.values());
+    keyToResource.clear();
+    for (int i = resources.size() - 1; i >= 0; --i) { // [RA]
+      try {
+        resources.get(i).close();
+      }
+      catch (final Exception ignore) {
+      }
+    }
+  }
+
+  private SessionScope() {
+  }
+}
@@ -0,0 +1,306 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.libj.lang.Hexadecimal;
+
+/**
+ * A local content cache of remote ({@code http:} and {@code https:}) URLs. The content of each URL is stored in a directory named
+ * by the SHA-256 hash of the URL, under its original file name, alongside a properties file that records the {@code ETag} and
+ * {@code Last-Modified} headers of the response. Cached content is revalidated with a conditional request at most once per
+ * {@link MavenSession}, and is served without revalidation when offline.
+ */
+final class URLCache implements AutoCloseable {
+  private static final int MAX_CONCURRENCY = 8;
+  private static final int TIMEOUT = 30000;
+
+  private static final String KEY_URL = "url";
+  private static final String KEY_NAME = "name";
+  private static final String KEY_ETAG = "etag";
+  private static final String KEY_LAST_MODIFIED = "lastModified";
+
+  /**
+   * Returns the {@link URLCache} of the specified directory in the scope of the specified {@link MavenSession}.
+   *
+   * @param session The {@link MavenSession}.
+   * @param dir The cache directory.
+   * @param offline Whether to serve content from the cache only.
+   * @return The {@link URLCache} of the specified directory in the scope of the specified {@link MavenSession}.
+   * @throws NullPointerException If {@code session} or {@code dir} is null.
+   */
+  static URLCache get(final MavenSession session, final File dir, final boolean offline) {
+    return SessionScope.get(session, URLCache.class.getName() + ":" + offline + ":" + dir.getAbsolutePath(), () -> new URLCache(dir, offline));
+  }
+
+  /**
+   * Returns whether the specified URL is cacheable, which is the case for {@code http:} and {@code https:} URLs.
+   *
+   * @param url The URL.
+   * @return Whether the specified URL is cacheable.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  static boolean isCacheable(final String url) {
+    return url.startsWith("http:") || url.startsWith("https:");
+  }
+
+  private static String hash(final String url) {
+    try {
+      return Hexadecimal.encode(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String getFileName(final URL url) {
+    final String path = url.getPath();
+    final String name = path.substring(path.lastIndexOf('/') + 1).replaceAll("[^A-Za-z0-9._-]", "_");
+    return name.length() == 0 || name.startsWith(".") ? "index" + name : name;
+  }
+
+  private static void move(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (final AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private final File dir;
+  private final boolean offline;
+  private final Set<String> validated = ConcurrentHashMap.newKeySet();
+
+  URLCache(final File dir, final boolean offline) {
+    this.dir = dir;
+    this.offline = offline;
+  }
+
+  private Properties load(final File file) {
+    if (!file.isFile())
+      return null;
+
+    final Properties properties = new Properties();
+    try (final InputStream in = new FileInputStream(file)) {
+      properties.load(in);
+      return properties.getProperty(KEY_NAME) == null ? null : properties;
+    }
+    catch (final IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the local {@link File} of the content of the specified URL, which is downloaded if absent from the cache, and otherwise
+   * revalidated if it has not been validated in this session. If the cached content cannot be revalidated due to an
+   * {@link IOException}, the cached content is returned.
+   *
+   * @param location The URL.
+   * @param log The {@link Log} to which to report the use of stale content, or {@code null}.
+   * @return The local {@link File} of the content of the specified URL.
+   * @throws IOException If the content is absent from the cache and cannot be downloaded, or is absent from the cache when offline.
+   * @throws NullPointerException If {@code location} is null.
+   */
+  File fetch(final String location, final Log log) throws IOException {
+    final String hash = hash(location);
+    final File metadataFile = new File(dir, hash + ".properties");
+    final Properties metadata = load(metadataFile);
+    final File cached = metadata == null ? null : new File(new File(dir, hash), metadata.getProperty(KEY_NAME));
+    final boolean isCached = cached != null && cached.isFile();
+    if (isCached && (offline || validated.contains(location)))
+      return cached;
+
+    if (offline)
+      throw new IOException("Unable to resolve " + location + " from " + dir.getAbsolutePath() + " while offline");
+
+    final URL url = new URL(location);
+    try {
+      final URLConnection connection = url.openConnection();
+      connection.setUseCaches(false);
+      connection.setConnectTimeout(TIMEOUT);
+      connection.setReadTimeout(TIMEOUT);
+      if (isCached) {
+        final String etag = metadata.getProperty(KEY_ETAG);
+        if (etag != null)
+          connection.setRequestProperty("If-None-Match", etag);
+
+        final String lastModified = metadata.getProperty(KEY_LAST_MODIFIED);
+        if (lastModified != null)
+          connection.setRequestProperty("If-Modified-Since", lastModified);
+      }
+
+      final int responseCode = ((HttpURLConnection)connection).getResponseCode();
+      if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && isCached) {
+        validated.add(location);
+        return cached;
+      }
+
+      if (responseCode != HttpURLConnection.HTTP_OK)
+        throw new IOException("Unable to fetch " + location + ": HTTP " + responseCode);
+
+      final File entryDir = new File(dir, hash);
+      Files.createDirectories(entryDir.toPath());
+      final File file = new File(entryDir, getFileName(url));
+      final Path temp = Files.createTempFile(dir.toPath(), hash, ".tmp");
+      try {
+        try (final InputStream in = connection.getInputStream()) {
+          Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        move(temp, file.toPath());
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_URL, location);
+        properties.setProperty(KEY_NAME, file.getName());
+        final String etag = connection.getHeaderField("ETag");
+        if (etag != null)
+          properties.setProperty(KEY_ETAG, etag);
+
+        final String lastModified = connection.getHeaderField("Last-Modified");
+        if (lastModified != null)
+          properties.setProperty(KEY_LAST_MODIFIED, lastModified);
+
+        try (final OutputStream out = new FileOutputStream(temp.toFile())) {
+          properties.store(out, null);
+        }
+
+        move(temp, metadataFile.toPath());
+      }
+      finally {
+        Files.deleteIfExists(temp);
+      }
+
+      validated.add(location);
+      return file;
+    }
+    catch (final IOException e) {
+      if (!isCached)
+        throw e;
+
+      if (log != null)
+        log.warn("Using cached " + location + ": " + e.getMessage());
+
+      validated.add(location);
+      return cached;
+    }
+  }
+
+  /**
+   * Fetches the content of the specified URLs concurrently, and returns a map of each URL to the {@link java.net.URL} of its local
+   * {@link File}, in iteration order of {@code locations}.
+   *
+   * @param locations The URLs.
+   * @param log The {@link Log} to which to report the use of stale content, or {@code null}.
+   * @return A map of each URL to the {@link java.net.URL} of its local {@link File}.
+   * @throws MojoExecutionException If the content of a URL could not be fetched. If more than one URL could not be fetched, each
+   *           failure is added as a suppressed exception.
+   * @throws NullPointerException If {@code locations} or any member of {@code locations} is null.
+   */
+  Map<String,URL> fetchAll(final Collection<String> locations, final Log log) throws MojoExecutionException {
+    final LinkedHashSet<String> distinct = new LinkedHashSet<>(locations);
+    final LinkedHashMap<String,URL> locationToURL = new LinkedHashMap<>();
+    if (distinct.size() == 0)
+      return locationToURL;
+
+    if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory())
+      throw new MojoExecutionException("Unable to create URL cache directory: " + dir.getAbsolutePath());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(distinct.size(), MAX_CONCURRENCY), r -> {
+      final Thread thread = new Thread(r, URLCache.class.getSimpleName());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    try {
+      final LinkedHashMap<String,Future<File>> futures = new LinkedHashMap<>();
+      for (final String location : distinct) // [S]
+        futures.put(location, executor.submit(() -> fetch(location, log)));
+
+      ArrayList<Throwable> failures = null;
+      for (final Map.Entry<String,Future<File>> entry : futures.entrySet()) { // [S]
+        try {
+          locationToURL.put(entry.getKey(), entry.getValue().get().toURI().toURL());
+        }
+        catch (final ExecutionException e) {
+          if (failures == null)
+            failures = new ArrayList<>();
+
+          failures.add(e.getCause());
+        }
+        catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new MojoExecutionException(e.getMessage(), e);
+        }
+        catch (final IOException e) {
+          throw new MojoExecutionException(e.getMessage(), e);
+        }
+      }
+
+      if (failures != null) {
+        if (failures.size() == 1)
+          throw new MojoExecutionException(failures.get(0).getMessage(), failures.get(0));
+
+        final MojoExecutionException e = new MojoExecutionException(failures.size() + " of " + distinct.size() + " URLs could not be fetched, the first of which: " + failures.get(0).getMessage());
+        for (final Throwable failure : failures) // [L]
+          e.addSuppressed(failure);
+
+        throw e;
+      }
+
+      return locationToURL;
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Override
+  public void close() {
+    validated.clear();
+  }
+}
@@ -0,0 +1,118 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class AnnotationIndexTest {
+  private static void assertIndex(final AnnotationIndex index) {
+    final List<AnnotationIndex.Element> types = index.getAnnotatedTypes(Mojo.class);
+    assertEquals(1, types.size());
+    assertEquals(AnnotationUtilTest.class.getName(), types.get(0).getClassName());
+
+    final List<AnnotationIndex.Element> fields = index.getAnnotatedFields(Parameter.class);
+    fields.removeIf(f -> !AnnotationUtilTest.class.getName().equals(f.getClassName()));
+    assertEquals(1, fields.size());
+    assertEquals("parameter", fields.get(0).getName());
+
+    final List<AnnotationIndex.Element> methods = index.getAnnotatedMethods(Test.class);
+    assertTrue(methods.size() > 0);
+    for (final AnnotationIndex.Element method : methods) // [L]
+      assertNotNull(method.getDescriptor());
+  }
+
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private static File getTestClasses() throws URISyntaxException {
+    return new File(AnnotationIndexTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+  }
+
+  private File newJar(final String name, final byte[] content) throws IOException {
+    final File jar = new File(temp.getRoot(), "classes.jar");
+    try (final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry(name));
+      out.write(content);
+      out.closeEntry();
+    }
+
+    return jar;
+  }
+
+  @Test
+  public void testScan() throws IOException, URISyntaxException {
+    final File testClasses = getTestClasses();
+    final File indexFile = new File(temp.getRoot(), "annotation.idx");
+    assertIndex(AnnotationIndex.scan(new File[] {testClasses}, null));
+    assertFalse(indexFile.exists());
+
+    assertIndex(AnnotationIndex.scan(new File[] {testClasses}, indexFile));
+    assertTrue(indexFile.length() > 0);
+    assertIndex(AnnotationIndex.scan(new File[] {testClasses}, indexFile));
+  }
+
+  @Test
+  public void testShadowedClass() throws IOException, URISyntaxException {
+    final File testClasses = getTestClasses();
+    final String name = AnnotationUtilTest.class.getName().replace('.', '/') + ".class";
+    final File jar = newJar(name, Files.readAllBytes(new File(testClasses, name).toPath()));
+    assertIndex(AnnotationIndex.scan(new File[] {testClasses, jar}, null));
+    assertIndex(AnnotationIndex.scan(new File[] {jar, testClasses}, null));
+
+    // An earlier class without annotations shadows the annotated class of a later classpath entry
+    final ClassWriter writer = new ClassWriter(0);
+    writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, AnnotationUtilTest.class.getName().replace('.', '/'), null, "java/lang/Object", null);
+    writer.visitEnd();
+    final File dir = temp.newFolder("shadow");
+    final File shadow = new File(dir, name);
+    assertTrue(shadow.getParentFile().mkdirs());
+    Files.write(shadow.toPath(), writer.toByteArray());
+    final File indexFile = new File(temp.getRoot(), "annotation.idx");
+    for (int i = 0; i < 2; ++i)
+      assertEquals(0, AnnotationIndex.scan(new File[] {dir, testClasses}, indexFile).getAnnotatedTypes(Mojo.class).size());
+  }
+
+  @Test
+  public void testMalformedClass() throws IOException {
+    final File jar = newJar("a/B.class", new byte[] {(byte)0xCA, (byte)0xFE, (byte)0xBA, (byte)0xBE, 0, 0, 0x7F, 0x7F});
+    try {
+      AnnotationIndex.scan(new File[] {jar}, null);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains(jar.getPath() + "!/a/B.class"));
+      assertTrue(e.getCause() instanceof RuntimeException);
+    }
+  }
+}
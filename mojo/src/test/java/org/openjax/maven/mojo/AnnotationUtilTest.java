@@ -19,10 +19,19 @@ package org.openjax.maven.mojo;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import javax.annotation.Nullable;
@@ -51,8 +60,40 @@ public class AnnotationUtilTest {
 
     final Annotation copy = AnnotationUtil.annotationForMap(annotation.annotationType(), map);
     assertEquals(annotation, copy);
+    assertEquals(copy, annotation);
+    assertEquals(annotation.hashCode(), copy.hashCode());
+    assertEquals(annotation.annotationType(), copy.annotationType());
+
+    final Annotation defaults = AnnotationUtil.annotationForMap(annotation.annotationType(), new HashMap<>());
+    assertEquals(defaults, AnnotationUtil.annotationForMap(annotation.annotationType(), new HashMap<>()));
+    assertEquals(defaults.hashCode(), AnnotationUtil.annotationForMap(annotation.annotationType(), new HashMap<>()).hashCode());
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Hidden {
+    int[] value() default {1, 2};
+    String name() default "hidden";
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Nested {
+    String value();
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Lazy {
+    Class<?> type();
+    Class<?>[] types();
+    When when();
+    When[] whens();
+    Nested nested();
+    Nested[] nesteds() default {};
+    Class<?> absent() default Object.class;
   }
 
+  @Lazy(type = int.class, types = {String.class, int[].class, Map.Entry[].class}, when = When.NEVER, whens = {When.ALWAYS, When.UNKNOWN}, nested = @Nested("a"), nesteds = {@Nested("b"), @Nested("c")})
+  private String lazy;
+
   @Test
   public void testGetAnnotationParametersClass() throws IOException {
     final Mojo annotation = AnnotationUtil.getAnnotationParameters(AnnotationUtilTest.class, Mojo.class);
@@ -67,6 +108,93 @@ public class AnnotationUtilTest {
     assertEquals("parameter", annotation.alias());
   }
 
+  @Test
+  public void testLazyMemberValues() throws IOException, NoSuchFieldException {
+    final Field field = AnnotationUtilTest.class.getDeclaredField("lazy");
+    final Lazy annotation = AnnotationUtil.getAnnotationParameters(field, Lazy.class);
+    assertNotNull(annotation);
+    assertFalse(Proxy.isProxyClass(annotation.getClass()));
+    assertSame(int.class, annotation.type());
+    assertArrayEquals(new Class<?>[] {String.class, int[].class, Map.Entry[].class}, annotation.types());
+    assertSame(When.NEVER, annotation.when());
+    assertArrayEquals(new When[] {When.ALWAYS, When.UNKNOWN}, annotation.whens());
+    assertEquals("a", annotation.nested().value());
+    assertSame(annotation.nested(), annotation.nested());
+    assertEquals(2, annotation.nesteds().length);
+    assertEquals("c", annotation.nesteds()[1].value());
+    assertNotSame(annotation.nesteds(), annotation.nesteds());
+    assertSame(Object.class, annotation.absent());
+    assertEquals(field.getAnnotation(Lazy.class), annotation);
+    assertEquals(annotation, field.getAnnotation(Lazy.class));
+    assertEquals(field.getAnnotation(Lazy.class).hashCode(), annotation.hashCode());
+  }
+
+  @Test
+  public void testReadClassAnnotations() throws IOException {
+    final String desc = "L" + Mojo.class.getName().replace('.', '/') + ";";
+    try (final InputStream in = AnnotationUtilTest.class.getResourceAsStream(AnnotationUtilTest.class.getSimpleName() + ".class")) {
+      final AnnotationCache.Table table = AnnotationReader.read(in, null, Collections.singleton(desc), AnnotationReader.CLASS | AnnotationReader.VALUES);
+      assertEquals(AnnotationUtilTest.class.getName(), table.getClassName());
+      assertEquals(Collections.singleton(desc), table.getClassAnnotations().keySet());
+      assertEquals(Arrays.asList("name", "name"), table.getClassAnnotation(desc).values);
+    }
+  }
+
+  @Test
+  public void testAnnotationCache() throws IOException, NoSuchFieldException {
+    AnnotationCache.clear();
+    assertEquals(0, AnnotationCache.getHitCount());
+    assertEquals(0, AnnotationCache.getMissCount());
+
+    assertNotNull(AnnotationUtil.getAnnotationParameters(AnnotationUtilTest.class.getDeclaredField("parameter"), Parameter.class));
+    assertEquals(0, AnnotationCache.getHitCount());
+    assertEquals(1, AnnotationCache.getMissCount());
+
+    assertNotNull(AnnotationUtil.getAnnotationParameters(AnnotationUtilTest.class, Mojo.class));
+    assertNull(AnnotationUtil.getAnnotationParameters(AnnotationUtilTest.class, Parameter.class));
+    assertEquals(2, AnnotationCache.getHitCount());
+    assertEquals(1, AnnotationCache.getMissCount());
+  }
+
+  @Test
+  public void testAnnotationFactory() {
+    final Map<String,Object> map = new HashMap<>();
+    map.put("alias", "alias");
+    final Parameter parameter = AnnotationFactory.newInstance(Parameter.class, map);
+    assertFalse(Proxy.isProxyClass(parameter.getClass()));
+    assertEquals("alias", parameter.alias());
+    assertEquals("", parameter.property());
+    assertFalse(parameter.required());
+    assertEquals(Parameter.class, parameter.annotationType());
+    assertTrue(parameter.toString().startsWith("@" + Parameter.class.getName() + "("));
+    assertEquals(parameter, AnnotationFactory.newInstance(Parameter.class, map));
+    assertEquals(1, new HashSet<>(Arrays.asList(parameter, AnnotationFactory.newInstance(Parameter.class, map))).size());
+
+    map.put("required", true);
+    assertNotEquals(parameter, AnnotationFactory.newInstance(Parameter.class, map));
+
+    final Hidden hidden = AnnotationFactory.newInstance(Hidden.class, new HashMap<>());
+    assertTrue(Proxy.isProxyClass(hidden.getClass()));
+    assertArrayEquals(new int[] {1, 2}, hidden.value());
+    assertEquals("hidden", hidden.name());
+    assertEquals(hidden, AnnotationFactory.newInstance(Hidden.class, Collections.singletonMap("value", new int[] {1, 2})));
+    assertEquals(hidden.hashCode(), AnnotationFactory.newInstance(Hidden.class, Collections.singletonMap("name", "hidden")).hashCode());
+
+    try {
+      AnnotationFactory.newInstance(Parameter.class, Collections.singletonMap("required", "true"));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      AnnotationFactory.newInstance(Mojo.class, new HashMap<>()).name();
+      fail("Expected IncompleteAnnotationException");
+    }
+    catch (final IncompleteAnnotationException e) {
+    }
+  }
+
   @Test
   public void testGetAnnotation() throws IllegalAccessException, InvocationTargetException {
     test(AnnotationUtilTest.class.getAnnotation(RegEx.class));
@@ -0,0 +1,211 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.security.MessageDigest;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BaseMojoTest {
+  public static class TestMojo extends BaseMojo {
+    @Parameter(property = "input")
+    private File input;
+
+    @Parameter(property = "name")
+    private String name;
+
+    private int executions;
+    private int upToDate;
+    private String update;
+
+    @Override
+    public void execute(final Configuration configuration) throws MojoExecutionException {
+      ++executions;
+      if (update != null) {
+        try {
+          TestFiles.write(input, update);
+        }
+        catch (final IOException e) {
+          throw new MojoExecutionException(e.getMessage(), e);
+        }
+      }
+    }
+
+    @Override
+    protected void onUpToDate() {
+      ++upToDate;
+    }
+  }
+
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private static void set(final Object object, final String name, final Object value) throws ReflectiveOperationException {
+    final Field field = BaseMojo.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(object, value);
+  }
+
+  private static TestMojo newMojo(final File dir, final File input, final String name) throws ReflectiveOperationException {
+    final PluginDescriptor pluginDescriptor = new PluginDescriptor();
+    pluginDescriptor.setArtifactId("test-plugin");
+    pluginDescriptor.setVersion("1.0");
+    final MojoDescriptor mojoDescriptor = new MojoDescriptor();
+    mojoDescriptor.setGoal("test");
+    mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+
+    final MavenProject project = new MavenProject();
+    final Build build = new Build();
+    build.setDirectory(dir.getAbsolutePath());
+    project.setBuild(build);
+    project.setFile(new File(dir, "pom.xml"));
+
+    final TestMojo mojo = new TestMojo();
+    set(mojo, "execution", new MojoExecution(mojoDescriptor, "default"));
+    set(mojo, "project", project);
+    set(mojo, "upToDateCheck", true);
+    mojo.input = input;
+    mojo.name = name;
+    return mojo;
+  }
+
+  private static String digest(final BaseMojo mojo) throws Exception {
+    final MessageDigest digest = Digests.newDigest();
+    assertTrue(mojo.digestInputs(digest));
+    return Digests.toHex(digest.digest());
+  }
+
+  private static int execute(final File dir, final File input, final String name) throws Exception {
+    final TestMojo mojo = newMojo(dir, input, name);
+    mojo.execute();
+    return mojo.executions;
+  }
+
+  @Test
+  public void testUpToDateCheck() throws Exception {
+    final File dir = temp.getRoot();
+    final File input = TestFiles.write(new File(dir, "input.txt"), "a");
+
+    assertEquals(1, execute(dir, input, "x"));
+    assertTrue(new File(dir, "maven-status/test-plugin/test/default/inputs.sha256").isFile());
+    assertEquals(0, execute(dir, input, "x"));
+
+    assertEquals(1, execute(dir, input, "y"));
+    assertEquals(0, execute(dir, input, "y"));
+
+    TestFiles.write(input, "b");
+    assertEquals(1, execute(dir, input, "y"));
+    assertEquals(0, execute(dir, input, "y"));
+
+    assertTrue(input.delete());
+    assertEquals(1, execute(dir, input, "y"));
+    assertEquals(0, execute(dir, input, "y"));
+
+    final TestMojo mojo = newMojo(dir, input, "y");
+    set(mojo, "upToDateCheck", false);
+    mojo.execute();
+    assertEquals(1, mojo.executions);
+  }
+
+  @Test
+  public void testDirectoryInput() throws Exception {
+    final File dir = temp.getRoot();
+    final File input = temp.newFolder("src");
+    final File file = TestFiles.write(new File(input, "a/b.txt"), "a");
+    assertEquals(1, execute(dir, input, "x"));
+    assertEquals(0, execute(dir, input, "x"));
+
+    TestFiles.write(file, "b");
+    assertEquals(1, execute(dir, input, "x"));
+    assertEquals(0, execute(dir, input, "x"));
+
+    TestFiles.write(new File(input, "c.txt"), "c");
+    assertEquals(1, execute(dir, input, "x"));
+    assertEquals(0, execute(dir, input, "x"));
+
+    assertTrue(file.delete());
+    assertEquals(1, execute(dir, input, "x"));
+    assertEquals(0, execute(dir, input, "x"));
+  }
+
+  @Test
+  public void testOnUpToDate() throws Exception {
+    final File dir = temp.getRoot();
+    final File input = TestFiles.write(new File(dir, "input.txt"), "a");
+    assertEquals(1, execute(dir, input, "x"));
+
+    final TestMojo mojo = newMojo(dir, input, "x");
+    mojo.execute();
+    assertEquals(0, mojo.executions);
+    assertEquals(1, mojo.upToDate);
+  }
+
+  @Test
+  public void testInputModifiedDuringExecution() throws Exception {
+    final File dir = temp.getRoot();
+    final File input = TestFiles.write(new File(dir, "input.txt"), "a");
+    final TestMojo mojo = newMojo(dir, input, "x");
+    mojo.update = "b";
+    mojo.execute();
+    assertEquals(1, mojo.executions);
+
+    // The state reflects the input before it was modified, so the execution is not up-to-date
+    assertEquals(1, execute(dir, input, "x"));
+    assertEquals(0, execute(dir, input, "x"));
+  }
+
+  @Test
+  public void testExecutionSetting() throws Exception {
+    final File dir = temp.getRoot();
+    final File input = TestFiles.write(new File(dir, "input.txt"), "a");
+    assertEquals(1, execute(dir, input, "x"));
+
+    // A change to a setting that does not affect the outputs does not rerun the execution
+    final TestMojo mojo = newMojo(dir, input, "x");
+    set(mojo, "failOnNoOp", false);
+    mojo.execute();
+    assertEquals(0, mojo.executions);
+  }
+
+  @Test
+  public void testDigestIsPortable() throws Exception {
+    final File a = temp.newFolder("a");
+    final File b = temp.newFolder("b");
+    final TestMojo mojoA = newMojo(a, TestFiles.write(new File(a, "input.txt"), "x"), "n");
+    final TestMojo mojoB = newMojo(b, TestFiles.write(new File(b, "input.txt"), "x"), "n");
+    set(mojoB, "upToDateCheck", false);
+    set(mojoB, "failOnNoOp", false);
+    assertEquals(digest(mojoA), digest(mojoB));
+
+    TestFiles.write(mojoB.input, "y");
+    assertNotEquals(digest(mojoA), digest(mojoB));
+  }
+}
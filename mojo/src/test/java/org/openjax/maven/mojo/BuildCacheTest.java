@@ -0,0 +1,98 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildCacheTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testStoreAndRestore() throws IOException {
+    final File dir = temp.getRoot();
+    final File cacheDir = new File(dir, "cache");
+    final File outputDir = new File(dir, "output");
+    TestFiles.write(new File(outputDir, "a/A.java"), "a");
+    TestFiles.write(new File(outputDir, "B.java"), "b");
+    TestFiles.write(new File(outputDir, "stale/C.java"), "c");
+
+    final BuildCache cache = new BuildCache(cacheDir, 1024);
+    assertEquals(-1, cache.restore("k1", new OutputWriter(new File(dir, "restored"), true, new File(dir, "manifest"))));
+    cache.store("k1", outputDir, Arrays.asList("a/A.java", "B.java"));
+    cache.store("k1", outputDir, Arrays.asList("stale/C.java"));
+
+    final File restoredDir = new File(dir, "restored");
+    TestFiles.write(new File(restoredDir, "B.java"), "b");
+    assertTrue(new File(restoredDir, "B.java").setLastModified(1000000000000L));
+    final OutputWriter writer = new OutputWriter(restoredDir, true, new File(dir, "manifest"));
+    assertEquals(2, cache.restore("k1", writer));
+    assertEquals(1, writer.getWrittenCount());
+    assertEquals(1, writer.getUnchangedCount());
+    assertEquals("a", TestFiles.read(new File(restoredDir, "a/A.java")));
+    assertEquals(1000000000000L, new File(restoredDir, "B.java").lastModified());
+    assertFalse(new File(restoredDir, "stale").exists());
+  }
+
+  @Test
+  public void testEvict() throws IOException {
+    final File dir = temp.getRoot();
+    final File cacheDir = new File(dir, "cache");
+    final File outputDir = new File(dir, "output");
+    TestFiles.write(new File(outputDir, "A.java"), "0123456789");
+
+    final BuildCache cache = new BuildCache(cacheDir, 25);
+    cache.store("k1", outputDir, Arrays.asList("A.java"));
+    assertTrue(new File(cacheDir, "k1.entry").setLastModified(1000000000000L));
+    cache.store("k2", outputDir, Arrays.asList("A.java"));
+    assertTrue(new File(cacheDir, "k2.entry").setLastModified(1000000001000L));
+    cache.restore("k1", new OutputWriter(new File(dir, "restored"), true, new File(dir, "manifest")));
+    cache.store("k3", outputDir, Arrays.asList("A.java"));
+
+    assertTrue(new File(cacheDir, "k1").exists());
+    assertFalse(new File(cacheDir, "k2").exists());
+    assertFalse(new File(cacheDir, "k2.entry").exists());
+    assertTrue(new File(cacheDir, "k3").exists());
+  }
+
+  @Test
+  public void testAdoptIncompleteEntry() throws IOException {
+    final File dir = temp.getRoot();
+    final File cacheDir = new File(dir, "cache");
+    final File outputDir = new File(dir, "output");
+    TestFiles.write(new File(outputDir, "A.java"), "a");
+
+    // An entry directory without a .entry file, as is left by a build that was interrupted after the move
+    TestFiles.write(new File(cacheDir, "k1/A.java"), "a");
+    final BuildCache cache = new BuildCache(cacheDir, 1024);
+    assertEquals(-1, cache.restore("k1", new OutputWriter(new File(dir, "restored"), true, new File(dir, "manifest"))));
+
+    cache.store("k1", outputDir, Arrays.asList("A.java"));
+    assertEquals("1", TestFiles.read(new File(cacheDir, "k1.entry")));
+    final OutputWriter writer = new OutputWriter(new File(dir, "restored"), true, new File(dir, "manifest"));
+    assertEquals(1, cache.restore("k1", writer));
+    assertEquals("a", TestFiles.read(new File(dir, "restored/A.java")));
+  }
+}
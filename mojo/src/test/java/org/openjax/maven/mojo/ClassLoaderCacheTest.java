@@ -0,0 +1,154 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassLoaderCacheTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private File newJar(final String ... resources) throws IOException {
+    final File jar = temp.newFile();
+    try (final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      for (final String resource : resources) { // [A]
+        out.putNextEntry(new ZipEntry(resource));
+        out.write(resource.getBytes());
+        out.closeEntry();
+      }
+    }
+
+    return jar;
+  }
+
+  private File newDir(final String ... resources) throws IOException {
+    final File dir = temp.newFolder();
+    for (final String resource : resources) { // [A]
+      final File file = new File(dir, resource);
+      if (resource.endsWith("/")) {
+        assertTrue(file.mkdirs());
+      }
+      else {
+        TestFiles.write(file, resource);
+      }
+    }
+
+    return dir;
+  }
+
+  private static URL toURL(final File file) throws MalformedURLException {
+    return new URL("file", "", file.isDirectory() ? file.getAbsolutePath() + "/" : file.getAbsolutePath());
+  }
+
+  @Test
+  public void testAcquire() throws IOException {
+    final ClassLoader parent = ClassLoaderCacheTest.class.getClassLoader();
+    final URL[] a = {newJar("a.txt").toURI().toURL()};
+    final URL[] b = {newJar("b.txt").toURI().toURL()};
+    final ClassLoaderCache cache = new ClassLoaderCache(1);
+
+    final ClassLoaderCache.Lease a1 = cache.acquire(a, parent);
+    final ClassLoaderCache.Lease a2 = cache.acquire(a, parent);
+    assertSame(a1.getClassLoader(), a2.getClassLoader());
+    assertNotNull(a1.getClassLoader().findResource("a.txt"));
+    a2.close();
+    a2.close();
+
+    // Evicts the leased class loader for "a", which must remain open until its last lease is released
+    final ClassLoaderCache.Lease b1 = cache.acquire(b, parent);
+    assertEquals(1, cache.size());
+    assertNotNull(a1.getClassLoader().findResource("a.txt"));
+    a1.close();
+    assertNull(a1.getClassLoader().findResource("a.txt"));
+
+    final ClassLoaderCache.Lease b2 = cache.acquire(b, parent);
+    assertSame(b1.getClassLoader(), b2.getClassLoader());
+    b1.close();
+    b2.close();
+
+    cache.close();
+    assertEquals(0, cache.size());
+    assertNull(b1.getClassLoader().findResource("b.txt"));
+  }
+
+  @Test
+  public void testFingerprint() throws IOException {
+    final File jar = newJar("a.txt");
+    final URL[] urls = {jar.toURI().toURL()};
+    final String fingerprint = ClassLoaderCache.fingerprint(urls);
+    assertEquals(fingerprint, ClassLoaderCache.fingerprint(urls));
+    assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+    assertNotEquals(fingerprint, ClassLoaderCache.fingerprint(urls));
+  }
+
+  @Test
+  public void testGetResource() throws IOException {
+    final ClassLoader parent = ClassLoaderCacheTest.class.getClassLoader();
+    final URL[] dependencies = {toURL(newJar("dep.txt", "a.txt"))};
+    final URL[] urls = {toURL(newDir("a.txt", "d/", "g/h.txt")), toURL(newJar("a.txt", "b.txt", "d/x.txt", "e/", "g/h.txt")), toURL(newDir("b.txt", "c.txt", "e/", "x y.txt")), toURL(newJar("c.txt", "f.txt", "META-INF/MANIFEST.MF"))};
+    final String[] names = {"a.txt", "b.txt", "c.txt", "f.txt", "d", "d/", "d/x.txt", "e", "e/", "g/h.txt", "dep.txt", "missing.txt", "/a.txt", "x y.txt", "META-INF/MANIFEST.MF", "org/junit/Test.class"};
+    try (final ClassLoaderCache cache = new ClassLoaderCache(ClassLoaderCache.DEFAULT_MAX_SIZE)) {
+      try (
+        final ClassLoaderCache.Lease dependencyClassLoader = cache.acquire(dependencies, parent);
+        final ClassLoaderCache.Lease lease = cache.acquire(urls, dependencyClassLoader.getClassLoader());
+      ) {
+        for (final String name : names) { // [A]
+          final URL expected = lease.getClassLoader().getResource(name);
+          assertEquals(name, String.valueOf(expected), String.valueOf(lease.getResource(name)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testManifestClassPath() throws IOException {
+    final File dependency = newJar("z.txt");
+    final Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, dependency.getName());
+    final File jar = temp.newFile("manifest.jar");
+    try (final JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+      out.putNextEntry(new ZipEntry("a.txt"));
+      out.closeEntry();
+    }
+
+    final URL[] urls = {toURL(jar)};
+    assertNull(ResourceIndex.build(urls));
+    try (final ClassLoaderCache cache = new ClassLoaderCache(ClassLoaderCache.DEFAULT_MAX_SIZE)) {
+      try (final ClassLoaderCache.Lease lease = cache.acquire(urls, null)) {
+        final URL expected = lease.getClassLoader().getResource("z.txt");
+        assertNotNull(expected);
+        assertEquals(expected.toString(), String.valueOf(lease.getResource("z.txt")));
+      }
+    }
+  }
+}
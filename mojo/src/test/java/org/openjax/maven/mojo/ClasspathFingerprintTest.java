@@ -0,0 +1,86 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClasspathFingerprintTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private static void writeJar(final File file, final String content) throws IOException {
+    try (final ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+      out.putNextEntry(new ZipEntry("a/A.class"));
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+  }
+
+  @Test
+  public void testCompute() throws IOException {
+    final File dir = temp.getRoot();
+    final File classes = new File(dir, "classes");
+    TestFiles.write(new File(classes, "a/B.class"), "b");
+    TestFiles.write(new File(classes, "a/b/C.class"), "c");
+    final File jar = new File(dir, "a.jar");
+    writeJar(jar, "a");
+    final File plain = new File(dir, "plain.jar");
+    TestFiles.write(plain, "not a zip");
+    final File stateFile = new File(dir, "status/classpath.fingerprint");
+    final List<File> classpath = Arrays.asList(classes, jar, plain, new File(dir, "missing"));
+
+    final ClasspathFingerprint first = ClasspathFingerprint.compute(classpath, stateFile);
+    assertTrue(first.isChanged());
+    assertNull(first.getPreviousDigest());
+    assertEquals(4, first.getHashedCount());
+    assertTrue(stateFile.isFile());
+
+    final ClasspathFingerprint second = ClasspathFingerprint.compute(classpath, stateFile);
+    assertFalse(second.isChanged());
+    assertEquals(first.getDigest(), second.getDigest());
+    assertEquals(0, second.getHashedCount());
+
+    final File c = new File(classes, "a/b/C.class");
+    TestFiles.write(c, "cc");
+    assertTrue(c.setLastModified(c.lastModified() + 2000));
+    final ClasspathFingerprint third = ClasspathFingerprint.compute(classpath, stateFile);
+    assertTrue(third.isChanged());
+    assertEquals(second.getDigest(), third.getPreviousDigest());
+    assertEquals(1, third.getHashedCount());
+
+    writeJar(jar, "aa");
+    assertTrue(jar.setLastModified(jar.lastModified() + 2000));
+    final ClasspathFingerprint fourth = ClasspathFingerprint.compute(classpath, stateFile);
+    assertTrue(fourth.isChanged());
+    assertEquals(1, fourth.getHashedCount());
+
+    assertNotEquals(first.getDigest(), ClasspathFingerprint.compute(Arrays.asList(jar, classes, plain), null).getDigest());
+  }
+}
@@ -0,0 +1,122 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.repository.ComponentDependency;
+import org.junit.Test;
+
+public class ClasspathServiceTest {
+  private static Dependency newDependency(final String artifactId) {
+    final Dependency dependency = new Dependency();
+    dependency.setGroupId("org.example");
+    dependency.setArtifactId(artifactId);
+    dependency.setVersion("1.0");
+    return dependency;
+  }
+
+  @Test
+  public void testProjectDependencyPaths() {
+    final ArtifactRepositoryPolicy policy = new ArtifactRepositoryPolicy();
+    final MavenArtifactRepository localRepository = new MavenArtifactRepository("local", new File("target/repo").toURI().toString(), new DefaultRepositoryLayout(), policy, policy);
+    final MavenProject project = new MavenProject();
+    project.setExecutionProject(project);
+    project.getDependencies().add(newDependency("a"));
+    project.getDependencies().add(newDependency("b"));
+    project.getDependencies().add(newDependency("a"));
+
+    try (final ClasspathService service = new ClasspathService()) {
+      final List<String> paths = service.getProjectDependencyPaths(project, localRepository);
+      assertEquals(2, paths.size());
+      assertTrue(paths.get(0).endsWith("a-1.0.jar"));
+      assertTrue(paths.get(1).endsWith("b-1.0.jar"));
+      assertTrue(new File(paths.get(0)).isAbsolute());
+      assertSame(paths, service.getProjectDependencyPaths(project, localRepository));
+      assertSame(service.getProjectDependencyURLs(project, localRepository), service.getProjectDependencyURLs(project, localRepository));
+      try {
+        paths.add("c");
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      project.getDependencies().add(newDependency("c"));
+      final List<String> changed = service.getProjectDependencyPaths(project, localRepository);
+      assertNotSame(paths, changed);
+      assertEquals(3, changed.size());
+      assertTrue(changed.get(2).endsWith("c-1.0.jar"));
+
+      // A dependency that is changed in place is seen by its coordinates
+      project.getDependencies().get(1).setVersion("2.0");
+      final List<String> updated = service.getProjectDependencyPaths(project, localRepository);
+      assertNotSame(changed, updated);
+      assertTrue(updated.get(1).endsWith("b-2.0.jar"));
+    }
+  }
+
+  private static PluginDescriptor newPluginDescriptor(final String artifactId) {
+    final ComponentDependency dependency = new ComponentDependency();
+    dependency.setGroupId("org.example");
+    dependency.setArtifactId(artifactId);
+    dependency.setVersion("1.0");
+    dependency.setType("jar");
+    final PluginDescriptor descriptor = new PluginDescriptor();
+    descriptor.setDependencies(Collections.singletonList(dependency));
+    return descriptor;
+  }
+
+  @Test
+  public void testExecutionClasspath() throws DependencyResolutionRequiredException {
+    final ArtifactRepositoryPolicy policy = new ArtifactRepositoryPolicy();
+    final MavenArtifactRepository localRepository = new MavenArtifactRepository("local", new File("target/repo").toURI().toString(), new DefaultRepositoryLayout(), policy, policy);
+    final MavenProject project = new MavenProject();
+    final Build build = new Build();
+    build.setOutputDirectory(new File("target/classes").getAbsolutePath());
+    project.setBuild(build);
+    final MojoExecution execution = new MojoExecution(new MojoDescriptor());
+    final DefaultArtifactHandler handler = new DefaultArtifactHandler("jar");
+    final PluginDescriptor a = newPluginDescriptor("a");
+    final PluginDescriptor b = newPluginDescriptor("b");
+
+    try (final ClasspathService service = new ClasspathService()) {
+      final List<File> classpathA = service.getExecutionClasspath(project, execution, a, localRepository, handler);
+      final List<File> classpathB = service.getExecutionClasspath(project, execution, b, localRepository, handler);
+      assertEquals("a-1.0.jar", classpathA.get(0).getName());
+      assertEquals("b-1.0.jar", classpathB.get(0).getName());
+
+      // The classpaths of the plugins of a project are memoized alongside each other
+      assertSame(classpathA, service.getExecutionClasspath(project, execution, a, localRepository, handler));
+      assertSame(classpathB, service.getExecutionClasspath(project, execution, b, localRepository, handler));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileDigestsTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testDigest() throws IOException {
+    final Path dir = temp.getRoot().toPath();
+    final Random random = new Random(7);
+    final ArrayList<URI> uris = new ArrayList<>();
+    final ArrayList<byte[]> contents = new ArrayList<>();
+    // Sizes on either side of the buffer size and the map threshold
+    for (final int size : new int[] {0, 1, 65535, 65536, 65537, (1 << 20) - 1, 1 << 20, 3 << 20}) { // [A]
+      final byte[] content = new byte[size];
+      random.nextBytes(content);
+      uris.add(Files.write(dir.resolve(size + ".bin"), content).toUri());
+      contents.add(content);
+    }
+
+    final FileDigests digests = new FileDigests();
+    final Map<URI,byte[]> first = digests.digest(uris);
+    assertEquals(uris, new ArrayList<>(first.keySet()));
+    for (int i = 0; i < uris.size(); ++i) {
+      final byte[] expected = Digests.newDigest().digest(contents.get(i));
+      assertArrayEquals(expected, first.get(uris.get(i)));
+      assertArrayEquals(expected, Digests.digest(Paths.get(uris.get(i))));
+    }
+
+    final Path path = dir.resolve("1.bin");
+    Files.write(path, new byte[] {42});
+    Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 2000));
+
+    final Map<URI,byte[]> second = digests.digest(uris);
+    for (final URI uri : uris) { // [L]
+      if (uri.equals(path.toUri()))
+        assertArrayEquals(Digests.newDigest().digest(new byte[] {42}), second.get(uri));
+      else
+        assertSame(first.get(uri), second.get(uri));
+    }
+
+    Files.delete(path);
+    try {
+      digests.digest(Arrays.asList(uris.get(0), path.toUri()));
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileGlobTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private static List<String> relativize(final File dir, final List<File> files) {
+    final ArrayList<String> paths = new ArrayList<>();
+    for (final File file : files) // [L]
+      paths.add(dir.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/'));
+
+    return paths;
+  }
+
+  @Test
+  public void testExpand() throws IOException {
+    final File dir = temp.getRoot();
+    for (final String path : new String[] {"a.xsd", "b.xml", "x/c.xsd", "x/y/d.xsd", "x/y/e.xjb", "z/f.xsd", "z/x/g.xsd"}) // [A]
+      TestFiles.write(new File(dir, path), "");
+
+    final String base = dir.getAbsolutePath() + File.separator;
+    final String all = base + "**/*.xsd";
+    final String top = base + "*.x?d";
+    final String x = base + "x/**/*.*";
+    final String nested = base + "**/x/*.xsd";
+    final String trailing = base + "z/";
+    final String none = base + "q/**/*.xsd";
+    final Map<String,List<File>> globToFiles = FileGlob.expand(Arrays.asList(all, top, x, nested, none, all));
+    assertEquals(Arrays.asList("a.xsd", "x/c.xsd", "x/y/d.xsd", "z/f.xsd", "z/x/g.xsd"), relativize(dir, globToFiles.get(all)));
+    assertEquals(Arrays.asList("a.xsd"), relativize(dir, globToFiles.get(top)));
+    assertEquals(Arrays.asList("x/c.xsd", "x/y/d.xsd", "x/y/e.xjb"), relativize(dir, globToFiles.get(x)));
+    assertEquals(Arrays.asList("x/c.xsd", "z/x/g.xsd"), relativize(dir, globToFiles.get(nested)));
+    assertEquals(0, globToFiles.get(none).size());
+
+    assertFalse(FileGlob.isGlob(trailing));
+    assertEquals(Arrays.asList("z/f.xsd", "z/x/g.xsd"), relativize(dir, FileGlob.expand(Arrays.asList(trailing + "**")).get(trailing + "**")));
+  }
+}
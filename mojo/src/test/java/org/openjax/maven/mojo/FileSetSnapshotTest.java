@@ -0,0 +1,77 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSetSnapshotTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testDiff() throws IOException {
+    final File dir = temp.getRoot();
+    final File snapshotFile = new File(dir, "status/fileset.snapshot");
+    final URI a = TestFiles.write(new File(dir, "a.xsd"), "a").toURI();
+    final URI b = TestFiles.write(new File(dir, "b.xsd"), "b").toURI();
+    final URI c = TestFiles.write(new File(dir, "c.xsd"), "c").toURI();
+
+    assertNull(FileSetSnapshot.read(snapshotFile, "k"));
+    final FileSetSnapshot first = FileSetSnapshot.of(Arrays.asList(a, b), "k", false, null);
+    final FileSetSnapshot.Diff initial = first.diff(null);
+    assertFalse(initial.isIncremental());
+    assertEquals(Arrays.asList(a, b), Arrays.asList(initial.getAdded().toArray()));
+    first.write(snapshotFile);
+
+    final File bFile = new File(b);
+    TestFiles.write(bFile, "bb");
+    assertTrue(bFile.setLastModified(bFile.lastModified() + 2000));
+    final FileSetSnapshot previous = FileSetSnapshot.read(snapshotFile, "k");
+    assertNotNull(previous);
+    final FileSetSnapshot.Diff diff = FileSetSnapshot.of(Arrays.asList(b, c), "k", false, previous).diff(previous);
+    assertTrue(diff.isIncremental());
+    assertEquals(Collections.singleton(c), diff.getAdded());
+    assertEquals(Collections.singleton(b), diff.getModified());
+    assertEquals(Collections.singleton(a), diff.getRemoved());
+    assertEquals(0, diff.getUnchanged().size());
+
+    assertNull(FileSetSnapshot.read(snapshotFile, "other"));
+  }
+
+  @Test
+  public void testDigest() throws IOException {
+    final File dir = temp.getRoot();
+    final File aFile = new File(dir, "a.xsd");
+    final List<URI> uris = Collections.singletonList(TestFiles.write(aFile, "a").toURI());
+    final FileSetSnapshot first = FileSetSnapshot.of(uris, "k", true, null);
+
+    assertTrue(aFile.setLastModified(aFile.lastModified() + 2000));
+    assertEquals(uris.get(0), FileSetSnapshot.of(uris, "k", true, first).diff(first).getUnchanged().iterator().next());
+    assertEquals(uris.get(0), FileSetSnapshot.of(uris, "k", false, first).diff(first).getModified().iterator().next());
+  }
+}
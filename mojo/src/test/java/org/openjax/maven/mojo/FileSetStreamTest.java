@@ -0,0 +1,80 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class FileSetStreamTest {
+  @Test
+  public void testBackPressure() throws InterruptedException {
+    final AtomicInteger produced = new AtomicInteger();
+    final List<URI> expected = new ArrayList<>();
+    for (int i = 0; i < 100; ++i)
+      expected.add(URI.create("file:/" + i));
+
+    try (final FileSetStream stream = new FileSetStream(4, sink -> {
+      for (final URI uri : expected) { // [L]
+        sink.accept(uri);
+        produced.incrementAndGet();
+      }
+    })) {
+      Thread.sleep(100);
+      assertTrue(produced.get() <= 5);
+      assertFalse(stream.isEmpty());
+
+      final List<URI> actual = new ArrayList<>();
+      stream.forEachRemaining(actual::add);
+      assertEquals(expected, actual);
+      assertFalse(stream.hasNext());
+      assertNull(stream.getError());
+    }
+  }
+
+  @Test
+  public void testEmptyAndError() {
+    try (final FileSetStream stream = new FileSetStream(4, sink -> {})) {
+      assertTrue(stream.isEmpty());
+    }
+
+    final IOException error = new IOException("unreadable");
+    try (final FileSetStream stream = new FileSetStream(4, sink -> {
+      sink.accept(URI.create("file:/a"));
+      throw error;
+    })) {
+      assertEquals(URI.create("file:/a"), stream.next());
+      try {
+        stream.hasNext();
+        fail("Expected UncheckedIOException");
+      }
+      catch (final UncheckedIOException e) {
+        assertSame(error, e.getCause());
+      }
+
+      assertSame(error, stream.getError());
+      assertFalse(stream.isEmpty());
+    }
+  }
+}
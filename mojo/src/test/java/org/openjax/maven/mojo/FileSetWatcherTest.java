@@ -0,0 +1,119 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSetWatcherTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private interface Action {
+    void run() throws IOException;
+  }
+
+  private static Thread start(final Action action) {
+    final Thread thread = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+        action.run();
+      }
+      catch (final InterruptedException | IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+  private static void await(final FileSetWatcher watcher, final LinkedHashMap<Path,FileSetWatcher.Change> changes, final Path ... paths) throws InterruptedException, IOException {
+    while (!changes.keySet().containsAll(Arrays.asList(paths))) {
+      final LinkedHashMap<Path,FileSetWatcher.Change> batch = watcher.await(200);
+      if (batch == null)
+        watcher.rescan();
+      else
+        changes.putAll(batch);
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testAwait() throws InterruptedException, IOException {
+    final File basedir = temp.getRoot();
+    final File dir = temp.newFolder("src");
+    final Path modified = TestFiles.write(new File(dir, "a.xsd"), "1").toPath();
+    final PatternSetMatcher matcher = new PatternSetMatcher(Arrays.asList("**/*.xsd"), null);
+    try (final FileSetWatcher watcher = new FileSetWatcher(Collections.singletonList(dir), basedir.getAbsolutePath(), matcher)) {
+      assertEquals(1, watcher.size());
+
+      final File added = new File(dir, "b.xsd");
+      final File transient_ = new File(dir, "c.xsd");
+      final File last = new File(dir, "d.xsd");
+      final Thread thread = start(() -> {
+        TestFiles.write(added, "2");
+        TestFiles.write(modified.toFile(), "3");
+        TestFiles.write(transient_, "4");
+        assertTrue(transient_.delete());
+        TestFiles.write(last, "5");
+      });
+
+      // Events are delivered in order, so once the last file is seen, the events of the transient file have been read as well
+      final LinkedHashMap<Path,FileSetWatcher.Change> changes = new LinkedHashMap<>();
+      await(watcher, changes, added.toPath(), modified, last.toPath());
+      thread.join();
+      assertEquals(FileSetWatcher.Change.ADDED, changes.get(added.toPath()));
+      assertEquals(FileSetWatcher.Change.MODIFIED, changes.get(modified));
+      assertEquals(FileSetWatcher.Change.ADDED, changes.get(last.toPath()));
+      assertFalse(changes.containsKey(transient_.toPath()));
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testDeleteDir() throws InterruptedException, IOException {
+    final File basedir = temp.getRoot();
+    final File dir = temp.newFolder("src");
+    final File sub = new File(dir, "sub");
+    final Path a = TestFiles.write(new File(sub, "a.xsd"), "1").toPath();
+    final Path b = TestFiles.write(new File(sub, "nested/b.xsd"), "2").toPath();
+    TestFiles.write(new File(sub, "c.txt"), "3");
+    final PatternSetMatcher matcher = new PatternSetMatcher(Arrays.asList("**/*.xsd"), null);
+    try (final FileSetWatcher watcher = new FileSetWatcher(Collections.singletonList(dir), basedir.getAbsolutePath(), matcher)) {
+      assertEquals(3, watcher.size());
+
+      // A move out of the watched directories is reported as a single event for the directory
+      final File moved = temp.newFolder("moved");
+      final Thread thread = start(() -> assertTrue(sub.renameTo(new File(moved, "sub"))));
+
+      final LinkedHashMap<Path,FileSetWatcher.Change> changes = new LinkedHashMap<>();
+      await(watcher, changes, a, b);
+      thread.join();
+      assertEquals(FileSetWatcher.Change.REMOVED, changes.get(a));
+      assertEquals(FileSetWatcher.Change.REMOVED, changes.get(b));
+      assertEquals(1, watcher.size());
+    }
+  }
+}
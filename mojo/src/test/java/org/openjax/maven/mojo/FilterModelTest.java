@@ -0,0 +1,140 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.junit.Test;
+
+public class FilterModelTest {
+  static class Base {
+    @FilterParameter(FilterType.FILE)
+    @Parameter(property = "file")
+    private File file;
+  }
+
+  static class Valid extends Base {
+    @FilterParameter(FilterType.URL)
+    @Parameter(property = "urls")
+    private List<String> urls;
+
+    @Parameter(property = "other")
+    private String other;
+
+    @FilterParameter(FilterType.RESOURCE)
+    @Parameter(property = "resource")
+    private String resource = "resource";
+  }
+
+  static class MissingParameter {
+    @FilterParameter(FilterType.URL)
+    private String url;
+  }
+
+  static class WrongType {
+    @FilterParameter(FilterType.URL)
+    @Parameter(property = "urls")
+    private List<File> urls;
+  }
+
+  static class Unreadable {
+    @FilterParameter(FilterType.URL)
+    @Parameter(property = "url")
+    private String url;
+  }
+
+  @Test
+  public void testModel() throws MojoFailureException {
+    final FilterModel model = FilterModel.get(Valid.class);
+    assertSame(model, FilterModel.get(Valid.class));
+
+    final FilterModel.Property[] properties = model.getProperties();
+    assertEquals(3, properties.length);
+    assertEquals("file", properties[0].getName());
+    assertEquals(FilterType.FILE, properties[0].getFilterType());
+    assertSame(File.class, properties[0].getElementType());
+    assertEquals("urls", properties[1].getName());
+    assertTrue(properties[1].isList());
+    assertSame(String.class, properties[1].getElementType());
+    assertEquals("resource", properties[2].getName());
+    assertFalse(properties[2].isList());
+    assertEquals("resource", properties[2].get(new Valid()));
+  }
+
+  @Test
+  public void testErrors() {
+    try {
+      FilterModel.get(MissingParameter.class);
+      fail("Expected MojoFailureException");
+    }
+    catch (final MojoFailureException e) {
+      try {
+        FilterModel.get(MissingParameter.class);
+        fail("Expected MojoFailureException");
+      }
+      catch (final MojoFailureException e2) {
+        assertSame(e, e2);
+      }
+    }
+
+    try {
+      FilterModel.get(WrongType.class);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException | MojoFailureException e) {
+      assertTrue(e instanceof IllegalArgumentException);
+    }
+  }
+
+  @Test
+  public void testReadErrorNotCached() throws MojoFailureException {
+    final Thread thread = Thread.currentThread();
+    final ClassLoader contextClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(new ClassLoader(contextClassLoader) {
+      @Override
+      public InputStream getResourceAsStream(final String name) {
+        return !name.endsWith("$Unreadable.class") ? super.getResourceAsStream(name) : new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("unreadable");
+          }
+        };
+      }
+    });
+
+    try {
+      FilterModel.get(Unreadable.class);
+      fail("Expected MojoFailureException");
+    }
+    catch (final MojoFailureException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains(Unreadable.class.getName()));
+      assertTrue(e.getCause() instanceof IOException);
+    }
+    finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+
+    assertEquals(1, FilterModel.get(Unreadable.class).getProperties().length);
+  }
+}
@@ -0,0 +1,126 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Test;
+
+public class GeneratorExecutorTest {
+  private static final class RecordingLog extends SystemStreamLog {
+    private final List<String> messages = new ArrayList<>();
+
+    @Override
+    public synchronized void info(final CharSequence content) {
+      messages.add(content.toString());
+    }
+  }
+
+  @Test
+  public void testOrderedLog() throws MojoExecutionException {
+    final RecordingLog log = new RecordingLog();
+    final AtomicInteger runs = new AtomicInteger();
+    final GeneratorExecutor executor = new GeneratorExecutor(log);
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 64; ++i) {
+      final int index = i;
+      expected.add("task " + i);
+      executor.submit(l -> {
+        Thread.sleep((64 - index) % 7);
+        runs.incrementAndGet();
+        l.info("task " + index);
+      });
+    }
+
+    executor.await();
+    assertEquals(64, runs.get());
+    assertEquals(expected, log.messages);
+
+    try {
+      executor.submit(l -> {});
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testIsVirtual() throws MojoExecutionException {
+    final GeneratorExecutor executor = new GeneratorExecutor(new RecordingLog());
+    assertFalse(executor.isVirtual());
+
+    final AtomicBoolean virtual = new AtomicBoolean();
+    executor.submit(l -> {
+      try {
+        virtual.set((Boolean)Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+      }
+      catch (final NoSuchMethodException e) {
+      }
+    });
+
+    executor.await();
+    assertEquals(virtual.get(), executor.isVirtual());
+  }
+
+  @Test
+  public void testFailures() {
+    final RecordingLog log = new RecordingLog();
+    final GeneratorExecutor executor = new GeneratorExecutor(log);
+    executor.submit(l -> l.info("a"));
+    executor.submit(l -> {
+      throw new IOException("b");
+    });
+    executor.submit(l -> l.info("c"));
+    executor.submit(l -> {
+      throw new MojoExecutionException("d");
+    });
+
+    try {
+      executor.await();
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      assertEquals("2 of 4 tasks failed, the first of which: b", e.getMessage());
+      assertEquals(2, e.getSuppressed().length);
+      assertEquals("d", e.getSuppressed()[1].getMessage());
+    }
+
+    final GeneratorExecutor single = new GeneratorExecutor(log);
+    final MojoExecutionException failure = new MojoExecutionException("e");
+    single.submit(l -> {
+      throw failure;
+    });
+
+    try {
+      single.await();
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      assertSame(failure, e);
+    }
+
+    assertEquals(2, log.messages.size());
+  }
+}
@@ -0,0 +1,74 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OutputWriterTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws IOException {
+    final File dir = temp.getRoot();
+    final File destDir = new File(dir, "generated");
+    final File manifest = new File(dir, "status/outputs.manifest");
+
+    final OutputWriter first = new OutputWriter(destDir, true, manifest);
+    assertTrue(first.write("a/A.java", "a"));
+    assertTrue(first.write("b/c/C.java", "c"));
+    assertTrue(first.write("D.java", "d"));
+    first.finish();
+    assertEquals(3, first.getWrittenCount());
+    assertEquals(Arrays.asList("D.java", "a/A.java", "b/c/C.java"), Files.readAllLines(manifest.toPath()));
+
+    final File a = new File(destDir, "a/A.java");
+    assertTrue(a.setLastModified(1000000000000L));
+
+    final OutputWriter second = new OutputWriter(destDir, true, manifest);
+    assertFalse(second.write("a/A.java", "a"));
+    assertTrue(second.write("D.java", "dd"));
+    second.finish();
+    assertEquals(1, second.getWrittenCount());
+    assertEquals(1, second.getUnchangedCount());
+    assertEquals(1, second.getDeletedCount());
+    assertEquals(1000000000000L, a.lastModified());
+    assertEquals("dd", TestFiles.read(new File(destDir, "D.java")));
+    assertFalse(new File(destDir, "b").exists());
+    assertEquals(Arrays.asList("D.java", "a/A.java"), Files.readAllLines(manifest.toPath()));
+
+    final OutputWriter third = new OutputWriter(destDir, false, manifest);
+    assertFalse(third.write("D.java", "ddd"));
+    assertEquals("dd", TestFiles.read(new File(destDir, "D.java")));
+
+    try {
+      third.write("../E.java", "e");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+
+public class ParallelFilterTest {
+  private static List<String> newList(final List<String> list, final int size) {
+    for (int i = 0; i < size; ++i)
+      list.add(String.valueOf(i));
+
+    return list;
+  }
+
+  private static void assertFiltered(final List<String> list, final int size) {
+    assertEquals(size, list.size());
+    for (int i = 0; i < size; ++i) // [RA]
+      assertEquals("x" + i, list.get(i));
+  }
+
+  @Test
+  public void testOrder() throws IOException, MojoExecutionException {
+    for (final int threshold : new int[] {Integer.MAX_VALUE, 1}) { // [A]
+      final List<String> a = newList(new ArrayList<>(), 1000);
+      final List<String> b = newList(new LinkedList<>(), 333);
+      final ParallelFilter filter = new ParallelFilter();
+      filter.add(a, v -> "x" + v);
+      filter.add(b, v -> "x" + v);
+      assertEquals(1333, filter.size());
+      filter.filter(threshold);
+      assertFiltered(a, 1000);
+      assertFiltered(b, 333);
+    }
+  }
+
+  @Test
+  public void testFailures() throws IOException {
+    final ParallelFilter.Function function = v -> {
+      if (Integer.parseInt(v) % 100 == 0)
+        throw new MojoExecutionException("Resource not found: " + v);
+
+      return v;
+    };
+
+    final ParallelFilter sequential = new ParallelFilter();
+    sequential.add(newList(new ArrayList<>(), 1000), function);
+    try {
+      sequential.filter(Integer.MAX_VALUE);
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      assertEquals("Resource not found: 0", e.getMessage());
+      assertEquals(0, e.getSuppressed().length);
+    }
+
+    final ParallelFilter parallel = new ParallelFilter();
+    parallel.add(newList(new ArrayList<>(), 1000), function);
+    try {
+      parallel.filter(1);
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      final Throwable[] suppressed = e.getSuppressed();
+      assertEquals(10, suppressed.length);
+      for (int i = 0; i < suppressed.length; ++i) // [A]
+        assertEquals("Resource not found: " + i * 100, suppressed[i].getMessage());
+    }
+  }
+}
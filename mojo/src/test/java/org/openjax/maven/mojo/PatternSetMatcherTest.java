@@ -0,0 +1,63 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class PatternSetMatcherTest {
+  private static final String[] patterns = {"foo", "*he?lo*.xml", "/?abc/*/*.java", "mypackage/test/", "mypackage\\test\\", "**/CVS/*", "org/apache/jakarta/**", "org/apache/**/CVS/*", "**/test/**", "**/*.xsd", "**/test", "**/test/", "**/", "/**", "**//**", "a//**", "a+b", "a|b", "src/main/", "x.y", "**/a.b/**", "test", "**/*", "**/*/**", "**/*a/b.xsd", "**/*x/**", "**/*test/", "**/**"};
+  private static final String[] paths = {"foo", "foobar", "hello.xml", "hi.xml", "/xabc/foobar/test.java", "/xxabc/foobar/test.java", "mypackage/test/file.xml", "oops/mypackage/test/file.xml", "mypackage\\test\\file.xml", "oops\\mypackage\\test\\file.xml", "CVS/Repository", "org/apache/CVS/Entries", "org/apache/jakarta/tools/ant/CVS/Entries", "org/apache/CVS/foo/bar/Entries", "org/apache/jakarta/test.xml", "org/apache/xyz.java", "test", "path/to/test/file", "test/path.xml", "path/test", "mytest", "file.xml", "a/b.xsd", "b.xsd", "xsd", "a/", "a//b", "ab", "aab", "a|b", "src/main/java/A.java", "x.y", "xzy", "q/a.b/c", "q/aab/c", "test\nx", "a/test\n/b", "/test", ".xsd", "a/.xsd", "a\\b.xsd", "x/xa/b.xsd", "mytest/x", "q/x"};
+
+  @Test
+  public void testLegacySemantics() {
+    for (final String pattern : patterns) { // [A]
+      final String regex = PatternSetMojo.convertToRegex(pattern);
+      final PatternSetMatcher matcher = new PatternSetMatcher(Collections.singletonList(pattern), null);
+      for (final String path : paths) // [A]
+        assertEquals(pattern + " " + path, path.matches(regex), matcher.matches(path));
+    }
+  }
+
+  @Test
+  public void testSuffix() {
+    final PatternSetMatcher matcher = new PatternSetMatcher(Arrays.asList("**/*.xsd", "**/*a/b.xsd"), null);
+    assertTrue(matcher.getIncludes().isLiteral());
+    assertTrue(matcher.matches("b.xsd"));
+    assertTrue(matcher.matches("a/b/c.xsd"));
+    assertTrue(matcher.matches("x/xa/b.xsd"));
+    assertFalse(matcher.matches("a/b.xsdx"));
+    assertFalse(new PatternSetMatcher(Arrays.asList("**/*.x?d"), null).getIncludes().isLiteral());
+  }
+
+  @Test
+  public void testIncludesAndExcludes() {
+    final PatternSetMatcher matcher = new PatternSetMatcher(Arrays.asList("**/*.xsd", "*.xml"), Arrays.asList("**/test/**", "b.*"));
+    assertTrue(matcher.matches("a/b.xsd"));
+    assertTrue(matcher.matches(Paths.get("a.xml")));
+    assertFalse(matcher.matches("a/b.xml"));
+    assertFalse(matcher.matches("a/test/b.xsd"));
+    assertFalse(matcher.matches("b.xml"));
+    assertFalse(new PatternSetMatcher(null, null).matches("a.xml"));
+    assertFalse(new PatternSetMatcher(Collections.emptyList(), null).matches("a.xml"));
+  }
+}
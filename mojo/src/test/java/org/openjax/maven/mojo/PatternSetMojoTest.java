@@ -18,9 +18,28 @@ package org.openjax.maven.mojo;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Resource;
+import org.apache.maven.project.MavenProject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class PatternSetMojoTest {
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
   private static void test(final String pattern, final String[] pass, final String[] fail) {
     final String regex = PatternSetMojo.convertToRegex(pattern);
     for (int i = 0, i$ = pass.length; i < i$; ++i) // [A]
@@ -50,4 +69,55 @@ public class PatternSetMojoTest {
     test("org/apache/**/CVS/*", new String[] {"org/apache/CVS/Entries", "org/apache/jakarta/tools/ant/CVS/Entries"}, new String[] {"org/apache/CVS/foo/bar/Entries"});
     test("**/test/**", new String[] {"test", "path/to/test/file", "test/path.xml", "path/test"}, new String[] {"file.xml"});
   }
-}
\ No newline at end of file
+
+  private static List<URI> getFilesLegacy(final File basedir, final File dir, final List<String> includes, final List<String> excludes) throws IOException {
+    final int offset = basedir.getAbsolutePath().length() + 1;
+    try (final Stream<Path> stream = Files.walk(dir.toPath())) {
+      return stream.filter((final Path p) -> {
+        final File file = p.toFile();
+        if (!file.isFile())
+          return false;
+
+        final String path = file.getAbsolutePath().substring(offset);
+        return includes.stream().anyMatch(i -> path.matches(PatternSetMojo.convertToRegex(i))) && excludes.stream().noneMatch(e -> path.matches(PatternSetMojo.convertToRegex(e)));
+      }).map(Path::toUri).collect(Collectors.toList());
+    }
+  }
+
+  @Test
+  public void testGetFiles() throws IOException {
+    final File basedir = temp.getRoot();
+    final String[] paths = {"src/main/resources/a.xsd", "src/main/resources/schemas/b.xsd", "src/main/resources/schemas/c.xml", "src/main/resources/schemas/x/d.xsd", "src/main/resources/node_modules/e.xsd", "src/main/resources/node_modules/f/g.xsd", "src/main/resources/test/h.xsd", "src/main/resources/other/test/i.xsd", "src/main/xsd/j.xsd", "src/main/xsd/k/l.xsd"};
+    for (final String path : paths) // [A]
+      TestFiles.write(new File(basedir, path), "");
+
+    final MavenProject project = new MavenProject();
+    project.setFile(new File(basedir, "pom.xml"));
+    final Resource resource = new Resource();
+    final File dir = new File(basedir, "src/main/resources");
+    resource.setDirectory(dir.getAbsolutePath());
+    final Resource second = new Resource();
+    final File secondDir = new File(basedir, "src/main/xsd");
+    second.setDirectory(secondDir.getAbsolutePath());
+    final LinkedHashSet<Resource> resources = new LinkedHashSet<>();
+    resources.add(resource);
+    resources.add(second);
+
+    final List<List<String>> includes = Arrays.asList(Arrays.asList("**/*.xsd"), Arrays.asList("src/main/resources/schemas/**"), Arrays.asList("src/main/resources/schemas/b.xsd", "src/main/resources/a.xsd"), Arrays.asList("src/main/resources/"), Arrays.asList("**/*.x?d"));
+    final List<List<String>> excludes = Arrays.asList(Arrays.asList(), Arrays.asList("**/node_modules/**"), Arrays.asList("src/main/resources/schemas/", "**/test/**"), Arrays.asList("**/x/*"));
+    for (final List<String> include : includes) { // [L]
+      for (final List<String> exclude : excludes) { // [L]
+        final List<URI> expected = getFilesLegacy(basedir, dir, include, exclude);
+        expected.addAll(getFilesLegacy(basedir, secondDir, include, exclude));
+        assertEquals(include + " " + exclude, expected, new ArrayList<>(PatternSetMojo.getFiles(project, resources, new PatternSetMatcher(include, exclude), 1)));
+        assertEquals(include + " " + exclude, expected, new ArrayList<>(PatternSetMojo.getFiles(project, resources, new PatternSetMatcher(include, exclude), 4)));
+      }
+    }
+
+    final PatternSetMatcher matcher = new PatternSetMatcher(Arrays.asList("src/main/resources/schemas/**"), Arrays.asList("**/node_modules/**"));
+    assertTrue(matcher.canSkip("src/main/resources/other/"));
+    assertTrue(matcher.canSkip("src/main/resources/node_modules/"));
+    assertFalse(matcher.canSkip("src/main/"));
+    assertFalse(matcher.canSkip("src/main/resources/schemas/x/"));
+  }
+}
@@ -0,0 +1,64 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.Test;
+
+public class SessionScopeTest {
+  @SuppressWarnings("deprecation")
+  private static MavenSession newSession(final MavenExecutionRequest request) {
+    return new MavenSession(null, null, request, null);
+  }
+
+  @Test
+  public void testCloseOnSessionEnd() {
+    final AtomicInteger ended = new AtomicInteger();
+    final MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+    request.setExecutionListener(new AbstractExecutionListener() {
+      @Override
+      public void sessionEnded(final ExecutionEvent event) {
+        ended.incrementAndGet();
+      }
+    });
+
+    final AtomicInteger closed = new AtomicInteger();
+    final MavenSession session = newSession(request);
+    final AutoCloseable resource = SessionScope.get(session, SessionScopeTest.class, () -> closed::incrementAndGet);
+    assertSame(resource, SessionScope.get(session.clone(), SessionScopeTest.class, () -> closed::incrementAndGet));
+    assertEquals(0, closed.get());
+
+    // The listener of the request is retained, and the resources are closed when the session ends
+    request.getExecutionListener().sessionEnded(null);
+    assertEquals(1, ended.get());
+    assertEquals(1, closed.get());
+
+    assertNotSame(resource, SessionScope.get(newSession(new DefaultMavenExecutionRequest()), SessionScopeTest.class, () -> closed::incrementAndGet));
+    request.getExecutionListener().sessionEnded(null);
+    assertEquals(1, closed.get());
+    SessionScope.close();
+    assertEquals(2, closed.get());
+  }
+}
@@ -0,0 +1,55 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Utility functions for the reading and writing of UTF-8 text files in tests.
+ */
+final class TestFiles {
+  /**
+   * Writes the UTF-8 bytes of the specified content to the specified file, creating its parent directories if necessary.
+   *
+   * @param file The file.
+   * @param content The content.
+   * @return The specified file.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static File write(final File file, final String content) throws IOException {
+    Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  /**
+   * Returns the content of the specified file, decoded as UTF-8.
+   *
+   * @param file The file.
+   * @return The content of the specified file, decoded as UTF-8.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static String read(final File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private TestFiles() {
+  }
+}
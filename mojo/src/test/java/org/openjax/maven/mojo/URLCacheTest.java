@@ -0,0 +1,131 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.maven.mojo;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class URLCacheTest {
+  private static final String ETAG = "\"v1\"";
+
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private final AtomicInteger downloads = new AtomicInteger();
+  private final AtomicInteger revalidations = new AtomicInteger();
+  private HttpServer server;
+  private String base;
+  private File dir;
+
+  @Before
+  public void before() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      final String path = exchange.getRequestURI().getPath();
+      if (path.endsWith("missing.xsd")) {
+        exchange.sendResponseHeaders(404, -1);
+      }
+      else if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        revalidations.incrementAndGet();
+        exchange.sendResponseHeaders(304, -1);
+      }
+      else {
+        downloads.incrementAndGet();
+        final byte[] body = path.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.sendResponseHeaders(200, body.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      }
+
+      exchange.close();
+    });
+    server.start();
+    base = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    dir = temp.newFolder("urlcache");
+  }
+
+  @After
+  public void after() {
+    server.stop(0);
+  }
+
+  private static String read(final URL url) throws IOException {
+    return TestFiles.read(new File(url.getPath()));
+  }
+
+  @Test
+  public void testFetch() throws IOException, MojoExecutionException {
+    final String a = base + "schemas/a.xsd";
+    final String b = base + "schemas/b.xsd";
+
+    Map<String,URL> locationToURL = new URLCache(dir, false).fetchAll(Arrays.asList(a, b, a), null);
+    assertEquals(2, locationToURL.size());
+    assertEquals(2, downloads.get());
+    assertEquals("/schemas/a.xsd", read(locationToURL.get(a)));
+    assertTrue(locationToURL.get(b).getPath().endsWith("/b.xsd"));
+
+    // A new session revalidates once, and then serves from the cache
+    final URLCache cache = new URLCache(dir, false);
+    assertEquals(locationToURL, cache.fetchAll(Arrays.asList(a, b), null));
+    assertEquals(locationToURL, cache.fetchAll(Arrays.asList(a, b), null));
+    assertEquals(2, downloads.get());
+    assertEquals(2, revalidations.get());
+
+    // Offline serves from the cache only
+    server.stop(0);
+    assertEquals(locationToURL, new URLCache(dir, true).fetchAll(Arrays.asList(a, b), null));
+    try {
+      new URLCache(dir, true).fetchAll(Arrays.asList(base + "c.xsd"), null);
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      assertTrue(e.getMessage().contains("offline"));
+    }
+  }
+
+  @Test
+  public void testFailures() {
+    try {
+      new URLCache(dir, false).fetchAll(Arrays.asList(base + "missing.xsd", base + "a.xsd", base + "x/missing.xsd"), null);
+      fail("Expected MojoExecutionException");
+    }
+    catch (final MojoExecutionException e) {
+      assertEquals(2, e.getSuppressed().length);
+      assertEquals(1, downloads.get());
+    }
+  }
+}